@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# 기동 시간 비교: legacy(fat jar) / cds(레이어 + CDS) / cds-aot(레이어 + CDS + Spring AOT)
+#
+#   ./scripts/measure-startup.sh [runs]     (기본 5회, docker 필요)
+#
+# 측정 항목 (컨테이너 시작 시점 기준, 밀리초)
+#   ready_ms          : /actuator/health/readiness 가 200 을 돌려준 시점
+#   first_request_ms  : 첫 API 요청(/internal/api/users/{id}, DB 조회 포함)의 응답 완료 시점
+#   first_request_lat : 첫 API 요청 자체의 지연 시간
+#   started_s         : 로그의 "Started UserServiceApplication in X seconds"
+# 결과: build/reports/startup/startup.md
+set -euo pipefail
+
+RUNS=${1:-5}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+REPORT_DIR="$ROOT/build/reports/startup"
+NETWORK=user-service-startup
+DB=user-service-startup-db
+APP=user-service-startup-app
+PORT=18081
+
+now_ms() { date +%s%3N; }
+
+cleanup() {
+  docker rm -f "$APP" "$DB" >/dev/null 2>&1 || true
+  docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+build() {
+  echo "==> build $1"
+  docker build -q -t "user-service:startup-$1" "${@:2}" "$ROOT" >/dev/null
+}
+
+build legacy --target legacy
+build cds --target cds
+build cds-aot --target cds --build-arg AOT=true
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB" --network "$NETWORK" \
+  -e MYSQL_ROOT_PASSWORD=root -e MYSQL_DATABASE=users \
+  mysql:8.0 >/dev/null
+until docker exec "$DB" mysqladmin ping -uroot -proot --silent >/dev/null 2>&1; do sleep 1; done
+
+measure() {
+  local variant=$1
+  local start ready first latency started
+  # 매 실행마다 빈 스키마에서 시작 (ddl-auto: update 비용을 모든 변형에 동일하게 포함)
+  docker exec "$DB" mysql -uroot -proot -e "DROP DATABASE IF EXISTS users; CREATE DATABASE users" >/dev/null 2>&1
+  start=$(now_ms)
+  docker run -d --name "$APP" --network "$NETWORK" -p "$PORT:8081" \
+    -e SPRING_DATASOURCE_URL="jdbc:mysql://$DB:3306/users" \
+    -e SPRING_DATASOURCE_USERNAME=root \
+    -e SPRING_DATASOURCE_PASSWORD=root \
+    -e EUREKA_CLIENT_REGISTER_WITH_EUREKA=false \
+    -e EUREKA_CLIENT_FETCH_REGISTRY=false \
+    "user-service:startup-$variant" >/dev/null
+
+  until curl -sf "http://localhost:$PORT/actuator/health/readiness" >/dev/null 2>&1; do sleep 0.05; done
+  ready=$(( $(now_ms) - start ))
+
+  local before
+  before=$(now_ms)
+  curl -s -o /dev/null "http://localhost:$PORT/internal/api/users/startup-probe"
+  first=$(( $(now_ms) - start ))
+  latency=$(( $(now_ms) - before ))
+
+  started=$(docker logs "$APP" 2>&1 | sed -n 's/.*Started UserServiceApplication in \([0-9.]*\) seconds.*/\1/p' | head -1)
+  docker rm -f "$APP" >/dev/null
+
+  echo "| $variant | $ready | $first | $latency | ${started:-?} |"
+}
+
+mkdir -p "$REPORT_DIR"
+{
+  echo "# startup ($RUNS runs per variant, $(date -u +%Y-%m-%dT%H:%M:%SZ))"
+  echo
+  echo "| variant | ready_ms | first_request_ms | first_request_lat_ms | started_s |"
+  echo "|---|---|---|---|---|"
+  for variant in legacy cds cds-aot; do
+    for _ in $(seq "$RUNS"); do
+      measure "$variant"
+    done
+  done
+} | tee "$REPORT_DIR/startup.md"
@@ -0,0 +1,22 @@
+-- ID 생성 전략 변경(IDENTITY -> pooled sequence) 이전 스크립트 (MySQL)
+--
+-- MySQL 에는 시퀀스가 없어 Hibernate 가 *_seq 테이블(next_val 한 행)로 시퀀스를 흉내 냅니다.
+-- 새 버전이 처음 기동하며 ddl-auto 로 이 테이블을 만들면 next_val = 1 로 시작해 기존 행의 ID 와 겹치므로,
+-- 이전 버전 파드를 0 으로 줄인 상태에서 새 버전을 배포하기 전에 한 번 실행합니다.
+--
+--   mysql -h <host> -u <user> -p <database> < scripts/migrate-id-sequences.sql
+--
+-- pooled 옵티마이저(allocationSize = 50)는 next_val = v 를 읽으면 v-49 ~ v 를 쓰므로 next_val 을 최대 ID + 50 으로 맞춥니다.
+-- 이미 테이블이 있으면 더 큰 값만 반영하므로 여러 번 실행해도 됩니다.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq (next_val) SELECT 0 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+UPDATE users_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM users));
+
+CREATE TABLE IF NOT EXISTS payment_method_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO payment_method_seq (next_val) SELECT 0 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM payment_method_seq);
+UPDATE payment_method_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM payment_method));
+
+CREATE TABLE IF NOT EXISTS refresh_token_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO refresh_token_seq (next_val) SELECT 0 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM refresh_token_seq);
+UPDATE refresh_token_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM refresh_token));
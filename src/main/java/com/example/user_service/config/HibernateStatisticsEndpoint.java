@@ -0,0 +1,90 @@
+package com.example.user_service.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /actuator/hibernate : 기동 이후 누적된 Hibernate 통계와 최대 실행 시간 기준 상위 쿼리.
+ * 쿼리 문자열이 그대로 나가므로 기본 노출 대상(management.endpoints.web.exposure.include)에서 빠져 있습니다.
+ * 진단할 때만 ACTUATOR_EXPOSURE 에 hibernate 를 더해 켭니다.
+ */
+@Component
+@Endpoint(id = "hibernate")
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+public class HibernateStatisticsEndpoint {
+
+    private static final int TOP_QUERIES = 20;
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public HibernateStatisticsDescriptor statistics() {
+        List<QueryDescriptor> queries = Arrays.stream(statistics.getQueries())
+                                              .map(query -> QueryDescriptor.of(query, statistics.getQueryStatistics(query)))
+                                              .sorted(Comparator.comparingLong(QueryDescriptor::maxTimeMs).reversed())
+                                              .limit(TOP_QUERIES)
+                                              .toList();
+
+        return new HibernateStatisticsDescriptor(
+                statistics.getStartTime(),
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getCollectionFetchCount(),
+                statistics.getFlushCount(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getNaturalIdCacheHitCount(),
+                statistics.getNaturalIdCacheMissCount(),
+                statistics.getOptimisticFailureCount(),
+                statistics.getSlowQueries(),
+                queries
+        );
+    }
+
+    public record HibernateStatisticsDescriptor(
+            long startTime,
+            long preparedStatements,
+            long queryExecutions,
+            long queryExecutionMaxTimeMs,
+            String slowestQuery,
+            long entityLoads,
+            long entityFetches,
+            long collectionFetches,
+            long flushes,
+            long secondLevelCacheHits,
+            long secondLevelCacheMisses,
+            long naturalIdCacheHits,
+            long naturalIdCacheMisses,
+            long optimisticFailures,
+            Map<String, Long> slowQueries,
+            List<QueryDescriptor> topQueries
+    ) {
+    }
+
+    public record QueryDescriptor(String query, long executions, long rows, long avgTimeMs, long maxTimeMs) {
+
+        static QueryDescriptor of(String query, QueryStatistics stats) {
+            return new QueryDescriptor(query, stats.getExecutionCount(), stats.getExecutionRowCount(),
+                                       stats.getExecutionAvgTime(), stats.getExecutionMaxTime());
+        }
+    }
+}
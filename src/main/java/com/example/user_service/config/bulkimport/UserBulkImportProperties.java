@@ -0,0 +1,31 @@
+package com.example.user_service.config.bulkimport;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * user-bulk-import.* 설정.
+ *
+ * @param chunkSize      한 번에 중복 검사 / INSERT 하는 행 수 (트랜잭션 단위)
+ * @param hashThreads    비밀번호 해시(BCrypt) 전용 스레드 수. 모든 일괄 등록 요청이 함께 씁니다.
+ *                       0 이하면 CPU 코어 수의 절반(최소 1) - 로그인 BCrypt 와 요청 처리에 쓸 코어를 남겨 둡니다.
+ * @param maxConcurrent  파드당 동시에 진행할 수 있는 일괄 등록 수. 넘으면 429 + Retry-After
+ */
+@ConfigurationProperties("user-bulk-import")
+public record UserBulkImportProperties(
+        Integer chunkSize,
+        Integer hashThreads,
+        Integer maxConcurrent
+) {
+
+    public UserBulkImportProperties {
+        if (chunkSize == null) {
+            chunkSize = 500;
+        }
+        if (hashThreads == null || hashThreads <= 0) {
+            hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        if (maxConcurrent == null) {
+            maxConcurrent = 1;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.user_service.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * spring.datasource.routing.enabled=true 일 때 Primary/Replica 두 개의 Hikari 풀을 만들고
+ * 트랜잭션의 readOnly 여부에 따라 라우팅합니다.
+ * 풀 이름(primary / replica)이 hikaricp_* 메트릭의 pool 태그로 노출됩니다.
+ * 쓰기 직후 읽기를 Primary 로 고정하는 범위는 요청을 보낸 사용자 단위입니다 ({@link ReadYourWritesFilter}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                                                .type(HikariDataSource.class)
+                                                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                                                       .type(HikariDataSource.class)
+                                                       .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 @Value("${spring.datasource.routing.sticky-window:2s}") Duration stickyWindow) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(stickyWindow);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 얻어야 readOnly 속성이 반영된다.
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 트랜잭션을 여는 Spring Security(-100) / 멱등성 필터(0) 보다 먼저 호출자를 묶습니다.
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        registration.setOrder(-105);
+        return registration;
+    }
+}
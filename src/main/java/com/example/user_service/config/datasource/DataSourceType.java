@@ -0,0 +1,6 @@
+package com.example.user_service.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,81 @@
+package com.example.user_service.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 기동 시 *_seq 테이블(MySQL 의 시퀀스 대체 테이블)의 next_val 이 기존 최대 ID 보다 충분히 앞서 있는지 확인합니다.
+ * ddl-auto 가 테이블을 새로 만들면 next_val 이 1 부터 시작해 기존 행과 기본 키가 겹치므로,
+ * scripts/migrate-id-sequences.sql 을 실행하지 않은 DB 에서는 요청을 받기 전에 기동을 중단합니다.
+ * 시퀀스를 지원하는 DB(H2 등)는 *_seq 테이블이 없으므로 확인하지 않습니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceGuard implements InitializingBean {
+
+    // 엔티티의 @SequenceGenerator(allocationSize = 50) 와 같아야 합니다.
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("users", "users_seq"),
+            new Target("payment_method", "payment_method_seq"),
+            new Target("refresh_token", "refresh_token_seq")
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceGuard(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        for (Target target : TARGETS) {
+            if (!tableExists(target.sequenceTable())) {
+                continue;
+            }
+            Long nextVal = jdbcTemplate.queryForObject("SELECT MAX(next_val) FROM " + target.sequenceTable(), Long.class);
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + target.table(), Long.class);
+            if (maxId == null) {
+                continue;
+            }
+            if (nextVal == null || nextVal < maxId + ALLOCATION_SIZE) {
+                throw new IllegalStateException(String.format(
+                        "%s.next_val(%s) 이 %s 의 최대 ID(%d) + %d 보다 작아 새 ID 가 기존 행과 겹칩니다. "
+                                + "scripts/migrate-id-sequences.sql 을 실행한 뒤 다시 기동하세요.",
+                        target.sequenceTable(), nextVal, target.table(), maxId, ALLOCATION_SIZE));
+            }
+            log.debug("ID 시퀀스 확인: {}.next_val={}, {} 최대 ID={}", target.sequenceTable(), nextVal, target.table(), maxId);
+        }
+    }
+
+    private boolean tableExists(String name) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String catalog = connection.getCatalog();
+            String schema = connection.getSchema();
+            for (String candidate : List.of(name, name.toUpperCase())) {
+                try (ResultSet tables = connection.getMetaData().getTables(catalog, schema, candidate, null)) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Target(String table, String sequenceTable) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.user_service.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청을 보낸 사용자(게이트웨이가 검증해 넣는 X-User-Id)를 요청 스레드에 묶어,
+ * {@link ReplicationRoutingDataSource} 가 그 사용자가 방금 쓴 경우에만 읽기를 Primary 로 보내게 합니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String USER_ID_HEADER = "X-User-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReplicationRoutingDataSource.bindCaller(request.getHeader(USER_ID_HEADER));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicationRoutingDataSource.clearCaller();
+        }
+    }
+}
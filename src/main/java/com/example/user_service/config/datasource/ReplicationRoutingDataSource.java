@@ -0,0 +1,100 @@
+package com.example.user_service.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * readOnly 트랜잭션은 Replica, 그 외에는 Primary 로 라우팅합니다.
+ * 쓰기 트랜잭션 이후 stickyWindow 동안은 "같은 호출자"의 readOnly 트랜잭션만 Primary 로 보내 복제 지연으로 인한
+ * read-your-writes 위반을 막습니다. 다른 사용자의 읽기는 계속 Replica 로 가므로 쓰기가 꾸준한 파드에서도 Replica 가 놀지 않습니다.
+ * - 호출자: {@link ReadYourWritesFilter} 가 요청 스레드에 묶는 X-User-Id (파드 단위로 기억)
+ * - X-User-Id 가 없는 요청(로그인, 내부 API 등)은 같은 요청 안에서만 Primary 에 고정됩니다.
+ * - 요청 밖의 스레드(스케줄러, write-behind 등)의 쓰기는 라우팅에 영향을 주지 않습니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Caller> CURRENT = new ThreadLocal<>();
+
+    private final long stickyWindowMillis;
+    private final Map<String, Long> lastWriteByCaller = new ConcurrentHashMap<>();
+    private final AtomicLong nextCleanupAt = new AtomicLong();
+
+    private static final class Caller {
+        private final String key;
+        private long lastWriteAt = Long.MIN_VALUE / 2;
+
+        private Caller(String key) {
+            this.key = key;
+        }
+    }
+
+    public ReplicationRoutingDataSource(Duration stickyWindow) {
+        this.stickyWindowMillis = stickyWindow.toMillis();
+    }
+
+    /**
+     * @param callerKey 요청을 보낸 사용자 (없으면 null - 이 요청 안에서만 sticky)
+     */
+    static void bindCaller(String callerKey) {
+        CURRENT.set(new Caller(callerKey));
+    }
+
+    static void clearCaller() {
+        CURRENT.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        long now = System.currentTimeMillis();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite(now);
+            }
+            return DataSourceType.PRIMARY;
+        }
+
+        if (wroteRecently(now)) {
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+
+    private void recordWrite(long now) {
+        Caller caller = CURRENT.get();
+        if (caller == null) {
+            return;
+        }
+        caller.lastWriteAt = now;
+        if (caller.key == null) {
+            return;
+        }
+        lastWriteByCaller.merge(caller.key, now, Math::max);
+
+        // window 한 번에 한 번만 지난 항목을 지워, 맵 크기를 최근 2 window 동안 쓴 사용자 수로 묶습니다.
+        long cleanupAt = nextCleanupAt.get();
+        if (now >= cleanupAt && nextCleanupAt.compareAndSet(cleanupAt, now + stickyWindowMillis)) {
+            lastWriteByCaller.values().removeIf(writtenAt -> now - writtenAt >= stickyWindowMillis);
+        }
+    }
+
+    private boolean wroteRecently(long now) {
+        Caller caller = CURRENT.get();
+        if (caller == null) {
+            return false;
+        }
+        if (now - caller.lastWriteAt < stickyWindowMillis) {
+            return true;
+        }
+        if (caller.key == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteByCaller.get(caller.key);
+        return writtenAt != null && now - writtenAt < stickyWindowMillis;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.user_service.config.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * idempotency.* 설정.
+ *
+ * @param enabled     Idempotency-Key 처리 사용 여부
+ * @param ttl         저장된 응답을 재사용하는 기간
+ * @param maxEntries  메모리 계층 최대 보관 건수 (초과 시 오래된 것부터 제거)
+ * @param waitTimeout 같은 키의 요청이 처리 중일 때 기다리는 최대 시간
+ * @param dbEnabled   메모리에 없을 때 DB(idempotency_record) 계층도 조회/저장할지 여부
+ * @param paths       적용할 POST 경로 패턴
+ */
+@ConfigurationProperties("idempotency")
+public record IdempotencyProperties(
+        boolean enabled,
+        Duration ttl,
+        Integer maxEntries,
+        Duration waitTimeout,
+        boolean dbEnabled,
+        List<String> paths
+) {
+
+    public IdempotencyProperties {
+        if (ttl == null) {
+            ttl = Duration.ofHours(24);
+        }
+        if (maxEntries == null) {
+            maxEntries = 10_000;
+        }
+        if (waitTimeout == null) {
+            waitTimeout = Duration.ofSeconds(10);
+        }
+        if (paths == null) {
+            paths = List.of("/api/users", "/internal/api/users", "/api/users/*/payment-methods");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.user_service.config.idempotency;
+
+import com.example.user_service.entity.IdempotencyRecord;
+import com.example.user_service.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 2 계층 응답 저장소: 크기 제한이 있는 메모리 계층 + (선택) DB 계층.
+ * DB 계층을 켜면 다른 파드가 처리한 키도 재사용할 수 있습니다. 동시 요청 대기는 파드 내부에서만 보장됩니다.
+ */
+@Slf4j
+public class IdempotencyStore {
+
+    private final Map<String, StoredResponse> memory;
+    private final IdempotencyRecordRepository repository;
+
+    /**
+     * @param repository null 이면 메모리 계층만 사용
+     */
+    public IdempotencyStore(int maxEntries, IdempotencyRecordRepository repository) {
+        this.memory = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.repository = repository;
+    }
+
+    public StoredResponse find(String key) {
+        long now = System.currentTimeMillis();
+        StoredResponse cached = memory.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            memory.remove(key);
+        }
+        if (repository == null) {
+            return null;
+        }
+        return repository.findById(key)
+                         .map(this::toStoredResponse)
+                         .filter(stored -> !stored.isExpired(now))
+                         .map(stored -> {
+                             memory.put(key, stored);
+                             return stored;
+                         })
+                         .orElse(null);
+    }
+
+    public void save(String key, StoredResponse response) {
+        memory.put(key, response);
+        if (repository == null) {
+            return;
+        }
+        try {
+            // 키 충돌을 커밋이 아니라 저장 호출에서 DataAccessException 으로 받기 위해 바로 flush 합니다.
+            repository.saveAndFlush(new IdempotencyRecord(key, response.fingerprint(), response.status(), response.contentType(),
+                                                          response.location(), response.body(),
+                                                          toLocalDateTime(response.expiresAtMillis())));
+        } catch (DataAccessException e) {
+            // INSERT 만 하므로 다른 파드가 같은 키를 먼저 저장했거나 만료된 행이 아직 정리되지 않은 경우 실패합니다.
+            // 메모리 계층만으로도 이 파드에서는 재사용됩니다.
+            log.warn("Idempotency 응답 DB 저장 실패. key: {}", key, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:10m}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (memory) {
+            memory.values().removeIf(stored -> stored.isExpired(now));
+        }
+        if (repository != null) {
+            int deleted = repository.deleteExpired(toLocalDateTime(now));
+            if (deleted > 0) {
+                log.info("만료된 Idempotency 응답 {} 건을 삭제했습니다.", deleted);
+            }
+        }
+    }
+
+    private StoredResponse toStoredResponse(IdempotencyRecord record) {
+        long expiresAt = record.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new StoredResponse(record.getFingerprint(), record.getStatus(), record.getContentType(),
+                                  record.getLocation(), record.getBody(), expiresAt);
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
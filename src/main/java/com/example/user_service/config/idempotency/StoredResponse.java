@@ -0,0 +1,18 @@
+package com.example.user_service.config.idempotency;
+
+/**
+ * 첫 요청의 응답. fingerprint 는 요청 본문의 SHA-256 으로, 같은 키에 다른 본문이 오면 재사용하지 않습니다.
+ */
+public record StoredResponse(
+        String fingerprint,
+        int status,
+        String contentType,
+        String location,
+        byte[] body,
+        long expiresAtMillis
+) {
+
+    boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
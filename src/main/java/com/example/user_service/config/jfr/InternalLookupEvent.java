@@ -0,0 +1,77 @@
+package com.example.user_service.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 내부 조회 API(/internal/api/users GET) 한 건의 조회/직렬화 시간.
+ * InternalLookupJfrInterceptor 가 시작/종료하고, 컨트롤러는 조회가 끝난 시점만 표시합니다.
+ * 직렬화 시간은 조회 완료부터 응답 본문 작성 완료(afterCompletion)까지입니다.
+ * 이 이벤트를 켠 JFR 기록이 없으면 ThreadLocal 에 아무것도 남기지 않으므로 나머지 호출은 비용이 없습니다.
+ */
+@Name("com.example.user_service.InternalLookup")
+@Label("Internal Lookup")
+@Category({"User Service", "Internal API"})
+@Description("Lookup and serialization timings of an internal user lookup")
+@StackTrace(false)
+public class InternalLookupEvent extends Event {
+
+    private static final ThreadLocal<InternalLookupEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Lookup")
+    @Timespan
+    long lookup;
+
+    @Label("Serialization")
+    @Timespan
+    long serialization;
+
+    @Label("Status")
+    int status;
+
+    private transient long startedAt;
+    private transient long lookupCompletedAt;
+
+    static void start(String endpoint) {
+        InternalLookupEvent event = new InternalLookupEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.endpoint = endpoint;
+        event.startedAt = System.nanoTime();
+        event.begin();
+        CURRENT.set(event);
+    }
+
+    /**
+     * 조회가 예외로 끝나도 호출되도록 finally 에서 부릅니다.
+     */
+    public static void lookupCompleted() {
+        InternalLookupEvent event = CURRENT.get();
+        if (event != null) {
+            event.lookupCompletedAt = System.nanoTime();
+            event.lookup = event.lookupCompletedAt - event.startedAt;
+        }
+    }
+
+    static void finish(int status) {
+        InternalLookupEvent event = CURRENT.get();
+        CURRENT.remove();
+        if (event == null || !event.shouldCommit()) {
+            return;
+        }
+        if (event.lookupCompletedAt > 0) {
+            event.serialization = System.nanoTime() - event.lookupCompletedAt;
+        }
+        event.status = status;
+        event.commit();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.user_service.config.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * POST /login 한 건의 단계별 소요 시간 (LoginFilter).
+ * 사용자 조회는 CustomUserDetailsService 에서 같은 스레드의 현재 이벤트에 더해지고,
+ * 비밀번호 검증은 authenticate() 전체 시간에서 사용자 조회 시간을 뺀 값입니다.
+ * 이 이벤트를 켠 JFR 기록이 없으면 요청 속성과 ThreadLocal 에 남기지 않고, 이후 호출은 버려지는 인스턴스에 기록됩니다.
+ */
+@Name("com.example.user_service.Login")
+@Label("Login")
+@Category({"User Service", "Auth"})
+@Description("Stage timings of a single login request")
+@StackTrace(false)
+public class LoginEvent extends Event {
+
+    private static final String ATTRIBUTE = LoginEvent.class.getName();
+    private static final ThreadLocal<LoginEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("User Lookup")
+    @Timespan
+    long userLookup;
+
+    @Label("Password Check")
+    @Description("BCrypt verification inside the authentication provider")
+    @Timespan
+    long passwordCheck;
+
+    @Label("JWT Signing")
+    @Timespan
+    long jwtSigning;
+
+    @Label("Token Persistence")
+    @Timespan
+    long tokenPersistence;
+
+    @Label("Success")
+    boolean success;
+
+    public static LoginEvent start(HttpServletRequest request) {
+        LoginEvent event = new LoginEvent();
+        if (!event.isEnabled()) {
+            return event;
+        }
+        event.begin();
+        request.setAttribute(ATTRIBUTE, event);
+        CURRENT.set(event);
+        return event;
+    }
+
+    public static LoginEvent of(HttpServletRequest request) {
+        Object event = request.getAttribute(ATTRIBUTE);
+        return event instanceof LoginEvent loginEvent ? loginEvent : new LoginEvent();
+    }
+
+    public static void addUserLookup(long nanos) {
+        LoginEvent event = CURRENT.get();
+        if (event != null) {
+            event.userLookup += nanos;
+        }
+    }
+
+    public void authenticated(long authenticateNanos) {
+        CURRENT.remove();
+        passwordCheck = Math.max(0, authenticateNanos - userLookup);
+    }
+
+    public void jwtSigning(long nanos) {
+        jwtSigning = nanos;
+    }
+
+    public void tokenPersistence(long nanos) {
+        tokenPersistence = nanos;
+    }
+
+    public void finish(boolean success) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.success = success;
+        commit();
+    }
+}
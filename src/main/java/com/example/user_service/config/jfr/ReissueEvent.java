@@ -0,0 +1,67 @@
+package com.example.user_service.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * POST /reissue 한 건의 단계별 소요 시간 (ReissueController).
+ */
+@Name("com.example.user_service.Reissue")
+@Label("Token Reissue")
+@Category({"User Service", "Auth"})
+@Description("Stage timings of a single refresh token reissue")
+@StackTrace(false)
+public class ReissueEvent extends Event {
+
+    @Label("Token Verification")
+    @Description("Refresh JWT parsing and signature check")
+    @Timespan
+    long tokenVerification;
+
+    @Label("Token Lookup")
+    @Timespan
+    long tokenLookup;
+
+    @Label("JWT Signing")
+    @Timespan
+    long jwtSigning;
+
+    @Label("Token Persistence")
+    @Timespan
+    long tokenPersistence;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static ReissueEvent start() {
+        ReissueEvent event = new ReissueEvent();
+        event.begin();
+        return event;
+    }
+
+    public void tokenVerification(long nanos) {
+        tokenVerification = nanos;
+    }
+
+    public void tokenLookup(long nanos) {
+        tokenLookup = nanos;
+    }
+
+    public void jwtSigning(long nanos) {
+        jwtSigning = nanos;
+    }
+
+    public void tokenPersistence(long nanos) {
+        tokenPersistence = nanos;
+    }
+
+    public void finish(String outcome) {
+        this.outcome = outcome;
+        commit();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.user_service.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버려진 이벤트 수를 세는 AsyncAppender.
+ * - discarded: 큐가 discardingThreshold 아래로 남았을 때 버린 TRACE/DEBUG/INFO 이벤트
+ * - overflowed: neverBlock=true 에서 큐가 가득 차 버린 이벤트 (근사치)
+ * 동작 중인 인스턴스는 이름으로 조회할 수 있어 LoggingMetricsBinder 가 게이지/카운터로 노출합니다.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final Map<String, CountingAsyncAppender> RUNNING = new ConcurrentHashMap<>();
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    static Map<String, CountingAsyncAppender> running() {
+        return RUNNING;
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        if (isStarted()) {
+            RUNNING.put(getName(), this);
+        }
+    }
+
+    @Override
+    public void stop() {
+        RUNNING.remove(getName(), this);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && getRemainingCapacity() == 0
+                && !(getDiscardingThreshold() > 0 && super.isDiscardable(event))) {
+            overflowed.increment();
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getOverflowedCount() {
+        return overflowed.sum();
+    }
+}
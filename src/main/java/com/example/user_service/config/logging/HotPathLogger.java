@@ -0,0 +1,100 @@
+package com.example.user_service.config.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청마다 호출되는 경로(조회 성공, 권한 거부 등)용 로거.
+ * 키마다 1/N 샘플링과 초당 상한을 적용하고, 실제 발생 건수는 logging.hotpath.events 카운터로 모두 집계합니다.
+ * 상한 때문에 생략된 건수는 다음에 출력되는 로그 끝에 덧붙입니다.
+ * 정책과 카운터 레지스트리는 {@link HotPathLoggerFactory} 가 만들 때 정해집니다.
+ *
+ * <pre>
+ * this.lookupLog = hotPathLoggerFactory.getLogger(log, "payment-default-lookup");
+ * lookupLog.info("기본 결제 수단 조회 성공. 사용자 ID: {}", userId);
+ * </pre>
+ */
+public final class HotPathLogger {
+
+    private final Logger delegate;
+    private final Policy policy;
+    private final Counter logged;
+    private final Counter sampledOut;
+    private final Counter rateLimited;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicLong windowCount = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    HotPathLogger(Logger delegate, String key, Policy policy, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.logged = counter(meterRegistry, key, "logged");
+        this.sampledOut = counter(meterRegistry, key, "sampled_out");
+        this.rateLimited = counter(meterRegistry, key, "rate_limited");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String key, String decision) {
+        return Counter.builder("logging.hotpath.events")
+                      .description("Hot-path log events by sampling decision (sum = true event count)")
+                      .tag("key", key)
+                      .tag("decision", decision)
+                      .register(meterRegistry);
+    }
+
+    public void info(String format, Object... args) {
+        log(Level.INFO, format, args);
+    }
+
+    public void warn(String format, Object... args) {
+        log(Level.WARN, format, args);
+    }
+
+    private void log(Level level, String format, Object... args) {
+        if (policy.sampleEvery() > 1 && sequence.getAndIncrement() % policy.sampleEvery() != 0) {
+            sampledOut.increment();
+            return;
+        }
+        if (!tryAcquire(policy.maxPerSecond())) {
+            rateLimited.increment();
+            suppressed.incrementAndGet();
+            return;
+        }
+        logged.increment();
+        if (!delegate.isEnabledForLevel(level)) {
+            return;
+        }
+        long skipped = suppressed.getAndSet(0);
+        if (skipped > 0) {
+            Object[] withSkipped = Arrays.copyOf(args, args.length + 1);
+            withSkipped[args.length] = skipped;
+            delegate.atLevel(level).log(format + " (초당 상한으로 생략된 로그 {}건)", withSkipped);
+        } else {
+            delegate.atLevel(level).log(format, args);
+        }
+    }
+
+    private boolean tryAcquire(int maxPerSecond) {
+        if (maxPerSecond <= 0) {
+            return false;
+        }
+        long nowSecond = System.currentTimeMillis() / 1_000;
+        long current = windowSecond.get();
+        if (current != nowSecond && windowSecond.compareAndSet(current, nowSecond)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+
+    /**
+     * @param sampleEvery  N 건 중 1 건만 출력 (1 이면 샘플링 없음)
+     * @param maxPerSecond 키별 초당 최대 출력 건수 (0 이면 출력 안 함, 카운터만 집계)
+     */
+    public record Policy(int sampleEvery, int maxPerSecond) {
+    }
+}
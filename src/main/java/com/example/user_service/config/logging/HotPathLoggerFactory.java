@@ -0,0 +1,26 @@
+package com.example.user_service.config.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+
+/**
+ * logging.hot-path.* 정책으로 {@link HotPathLogger} 를 만듭니다. 서비스는 생성자에서 키마다 한 번 받아 필드로 둡니다.
+ */
+public class HotPathLoggerFactory {
+
+    private final HotPathLoggingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public HotPathLoggerFactory(HotPathLoggingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param key 정책과 logging.hotpath.events{key} 태그에 쓰이는 이름 (keys 에 없으면 defaults 정책)
+     */
+    public HotPathLogger getLogger(Logger delegate, String key) {
+        HotPathLogger.Policy policy = properties.keys().getOrDefault(key, properties.defaults());
+        return new HotPathLogger(delegate, key, policy, meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.user_service.config.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HotPathLoggingProperties.class)
+public class HotPathLoggingConfig {
+
+    @Bean
+    public HotPathLoggerFactory hotPathLoggerFactory(HotPathLoggingProperties properties, MeterRegistry meterRegistry) {
+        return new HotPathLoggerFactory(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.user_service.config.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * logging.hot-path.* 설정. keys 에 없는 키는 defaults 정책을 따릅니다.
+ */
+@ConfigurationProperties("logging.hot-path")
+public record HotPathLoggingProperties(
+        HotPathLogger.Policy defaults,
+        Map<String, HotPathLogger.Policy> keys
+) {
+
+    public HotPathLoggingProperties {
+        if (defaults == null) {
+            defaults = new HotPathLogger.Policy(1, 100);
+        }
+        if (keys == null) {
+            keys = Map.of();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.user_service.config.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 비동기 로깅 파이프라인 메트릭.
+ * - logging.async.queue.size / logging.async.queue.remaining : ASYNC_* 큐 적재량
+ * - logging.async.events.dropped : 정책에 따라 버려진 이벤트 (appender, reason 태그)
+ *   LOGSTASH 는 자체 링 버퍼(LMAX Disruptor)가 가득 차 버린 이벤트(overflow)와 그 밖의 전달 실패(append_failed)를
+ *   logback.xml 에 등록한 {@link LogstashDropListener} 로 집계합니다.
+ */
+@Component
+public class LoggingMetricsBinder implements MeterBinder {
+
+    private static final String LOGSTASH_APPENDER = "LOGSTASH";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : CountingAsyncAppender.running().keySet()) {
+            gauge(registry, "logging.async.queue.size", name, CountingAsyncAppender::getNumberOfElementsInQueue);
+            gauge(registry, "logging.async.queue.remaining", name, CountingAsyncAppender::getRemainingCapacity);
+            dropped(registry, name, "discarded", CountingAsyncAppender::getDiscardedCount);
+            dropped(registry, name, "overflow", CountingAsyncAppender::getOverflowedCount);
+        }
+        bindLogstash(registry);
+    }
+
+    // 로깅 시스템이 재초기화되면 같은 이름의 새 인스턴스가 등록되므로 매번 이름으로 조회합니다.
+    private void gauge(MeterRegistry registry, String metric, String appender,
+                       ToDoubleFunction<CountingAsyncAppender> value) {
+        Gauge.builder(metric, () -> {
+                 CountingAsyncAppender current = CountingAsyncAppender.running().get(appender);
+                 return current == null ? 0 : value.applyAsDouble(current);
+             })
+             .tag("appender", appender)
+             .register(registry);
+    }
+
+    private void dropped(MeterRegistry registry, String appender, String reason,
+                         ToDoubleFunction<CountingAsyncAppender> value) {
+        FunctionCounter.builder("logging.async.events.dropped", appender, name -> {
+                           CountingAsyncAppender current = CountingAsyncAppender.running().get(name);
+                           return current == null ? 0 : value.applyAsDouble(current);
+                       })
+                       .tag("appender", appender)
+                       .tag("reason", reason)
+                       .register(registry);
+    }
+
+    // 리스너는 logback.xml 에서 appender 와 함께 등록되므로 여기서는 누적 값만 읽습니다 (레지스트리마다 호출되어도 리스너가 늘지 않음).
+    private void bindLogstash(MeterRegistry registry) {
+        FunctionCounter.builder("logging.async.events.dropped", LogstashDropListener.class, type -> LogstashDropListener.overflowedCount())
+                       .tag("appender", LOGSTASH_APPENDER)
+                       .tag("reason", "overflow")
+                       .register(registry);
+        FunctionCounter.builder("logging.async.events.dropped", LogstashDropListener.class, type -> LogstashDropListener.failedCount())
+                       .tag("appender", LOGSTASH_APPENDER)
+                       .tag("reason", "append_failed")
+                       .register(registry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.user_service.config.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.TcpAppenderListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LOGSTASH appender 가 받지 못하고 버린 이벤트 수를 셉니다.
+ * logback.xml 의 &lt;listener&gt; 로 appender 가 시작되기 전에 등록해, 동작 중인 appender 의 리스너 목록을 바꾸지 않습니다.
+ * 로깅 시스템이 재초기화되어 새 인스턴스가 만들어져도 누적되도록 값은 static 으로 두고 LoggingMetricsBinder 가 읽습니다.
+ * - overflow: 링 버퍼(LMAX Disruptor)가 가득 차 버린 이벤트
+ * - append_failed: 종료 중 / 인터럽트 / 기타 예외로 버린 이벤트
+ */
+public class LogstashDropListener implements TcpAppenderListener<ILoggingEvent> {
+
+    // 라이브러리의 링 버퍼 포화 예외(AsyncDisruptorAppender.RingBufferFullException)는 공개 타입이 아니라 이름으로 구분합니다.
+    private static final String RING_BUFFER_FULL = "RingBufferFullException";
+
+    private static final LongAdder OVERFLOWED = new LongAdder();
+    private static final LongAdder FAILED = new LongAdder();
+
+    static long overflowedCount() {
+        return OVERFLOWED.sum();
+    }
+
+    static long failedCount() {
+        return FAILED.sum();
+    }
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        if (reason != null && RING_BUFFER_FULL.equals(reason.getClass().getSimpleName())) {
+            OVERFLOWED.increment();
+        } else {
+            FAILED.increment();
+        }
+    }
+}
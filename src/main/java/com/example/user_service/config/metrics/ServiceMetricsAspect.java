@@ -0,0 +1,76 @@
+package com.example.user_service.config.metrics;
+
+import com.example.user_service.exception.DuplicateEmailException;
+import com.example.user_service.exception.DuplicatePhoneNumberException;
+import com.example.user_service.exception.InvalidPasswordException;
+import com.example.user_service.exception.PaymentMethodNotFoundException;
+import com.example.user_service.exception.UserNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 메서드 단위 지연 시간 타이머 (user.service.method).
+ * 히스토그램/SLO 버킷은 management.metrics.distribution.* 설정을 따릅니다.
+ * 리포지토리 쿼리 단위 지연 시간은 Spring Data 기본 계측(spring.data.repository.invocations)을 사용합니다.
+ * 타이머는 메서드와 outcome 별로 처음 한 번만 등록하고, 이후 호출은 캐시된 타이머에 기록합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "user.service.method";
+
+    private final MeterRegistry meterRegistry;
+    // Spring AOP 의 JoinPoint 는 호출마다 새로 만들어지므로 Method 로 구분합니다.
+    private final Map<Method, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.example.user_service.service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = outcomeOf(ex);
+            throw ex;
+        } finally {
+            sample.stop(timerOf(((MethodSignature) joinPoint.getSignature()).getMethod(), outcome));
+        }
+    }
+
+    private Timer timerOf(Method method, String outcome) {
+        return timers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                     .computeIfAbsent(outcome, key -> Timer.builder(METRIC_NAME)
+                                                           .description("Service method latency")
+                                                           .tag("class", method.getDeclaringClass().getSimpleName())
+                                                           .tag("method", method.getName())
+                                                           .tag("outcome", outcome)
+                                                           .register(meterRegistry));
+    }
+
+    private String outcomeOf(Throwable ex) {
+        if (ex instanceof UserNotFoundException || ex instanceof PaymentMethodNotFoundException
+                || ex instanceof UsernameNotFoundException) {
+            return "not_found";
+        }
+        if (ex instanceof DuplicateEmailException || ex instanceof DuplicatePhoneNumberException
+                || ex instanceof InvalidPasswordException || ex instanceof AccessDeniedException
+                || ex instanceof IllegalArgumentException) {
+            return "rejected";
+        }
+        return "error";
+    }
+}
@@ -2,7 +2,8 @@ package com.example.user_service.config.securiy;
 
 import com.example.user_service.config.securiy.jwt.JWTUtil;
 import com.example.user_service.config.securiy.jwt.LoginFilter;
-import com.example.user_service.repository.RefreshTokenRepository;
+import com.example.user_service.config.securiy.throttle.LoginThrottle;
+import com.example.user_service.service.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,7 +34,8 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -73,9 +75,13 @@ public class SecurityConfig {
         http
                 .httpBasic((auth) -> auth.disable());
 
+        // 기본 LogoutFilter 대신 LogoutController 가 /logout 을 처리 (토큰 폐기)
+        http
+                .logout((auth) -> auth.disable());
+
         // LoginFilter 등록
         http
-                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshTokenRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshTokenService, loginThrottle), UsernamePasswordAuthenticationFilter.class);
 
         http.authorizeHttpRequests((auth) -> auth
                 .requestMatchers("/**").permitAll()
@@ -8,10 +8,15 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JWTUtil {
 
+    // 토큰 수명. 발급(LoginFilter, ReissueController)과 사용자 단위 폐기 항목의 만료(TokenRevocationList)가 같은 값을 씁니다.
+    public static final long ACCESS_TOKEN_EXPIRED_MS = 600000L; // 10분
+    public static final long REFRESH_TOKEN_EXPIRED_MS = 86400000L; // 24시간
+
     private final SecretKey secretKey;
 
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
@@ -36,12 +41,25 @@ public class JWTUtil {
         return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
     }
 
+    public String getJti(String token) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getId();
+    }
+
+    public Date getIssuedAt(String token) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getIssuedAt();
+    }
+
+    public Date getExpiration(String token) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration();
+    }
+
     public Boolean isExpired(String token) {
         return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
     }
 
     public String createJwt(String category, String userId, String role, Long expiredMs) {
         return Jwts.builder()
+                   .id(UUID.randomUUID().toString()) // jti - 토큰 단위 폐기(로그아웃)에 사용
                    .claim("category", category) // "access" or "refresh"
                    .claim("userId", userId)
                    .claim("role", role)
@@ -1,8 +1,9 @@
 package com.example.user_service.config.securiy.jwt;
 
+import com.example.user_service.config.jfr.LoginEvent;
 import com.example.user_service.config.securiy.CustomUserDetails;
-import com.example.user_service.entity.RefreshToken;
-import com.example.user_service.repository.RefreshTokenRepository;
+import com.example.user_service.config.securiy.throttle.LoginThrottle;
+import com.example.user_service.service.RefreshTokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,27 +18,45 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.util.Collection;
-import java.util.Date;
 import java.util.Iterator;
 
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
 
-    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, RefreshTokenRepository refreshTokenRepository) {
+    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, RefreshTokenService refreshTokenService,
+                       LoginThrottle loginThrottle) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenService = refreshTokenService;
+        this.loginThrottle = loginThrottle;
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         String username = obtainUsername(request);
         String password = obtainPassword(request);
+
+        // BCrypt 검증 전에 이메일/IP 별 시도 횟수를 제한합니다. null 을 반환하면 필터 체인이 여기서 끝납니다.
+        long retryAfterSeconds = loginThrottle.tryAcquire(username, request.getRemoteAddr());
+        if (retryAfterSeconds > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return null;
+        }
+
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password, null);
-        return authenticationManager.authenticate(authToken);
+
+        LoginEvent event = LoginEvent.start(request);
+        long start = System.nanoTime();
+        try {
+            return authenticationManager.authenticate(authToken);
+        } finally {
+            event.authenticated(System.nanoTime() - start);
+        }
     }
 
     @Override
@@ -50,12 +69,18 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         GrantedAuthority auth = iterator.next();
         String role = auth.getAuthority();
 
+        LoginEvent event = LoginEvent.of(request);
+
         // 1. 토큰 생성
-        String access = jwtUtil.createJwt("access", userId, role, 600000L); // 10분
-        String refresh = jwtUtil.createJwt("refresh", userId, role, 86400000L); // 24시간
+        long start = System.nanoTime();
+        String access = jwtUtil.createJwt("access", userId, role, JWTUtil.ACCESS_TOKEN_EXPIRED_MS);
+        String refresh = jwtUtil.createJwt("refresh", userId, role, JWTUtil.REFRESH_TOKEN_EXPIRED_MS);
+        event.jwtSigning(System.nanoTime() - start);
 
         // 2. Refresh 토큰 DB 저장
-        addRefreshEntity(userId, refresh, 86400000L);
+        start = System.nanoTime();
+        refreshTokenService.save(userId, refresh, JWTUtil.REFRESH_TOKEN_EXPIRED_MS);
+        event.tokenPersistence(System.nanoTime() - start);
 
         // 3. 응답 설정
         response.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + access);
@@ -65,17 +90,13 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
 
         response.setStatus(HttpStatus.OK.value());
+        event.finish(true);
     }
 
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) {
         response.setStatus(401);
-    }
-
-    private void addRefreshEntity(String username, String refresh, Long expiredMs) {
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-        RefreshToken refreshToken = new RefreshToken(username, refresh, date.toString());
-        refreshTokenRepository.save(refreshToken);
+        LoginEvent.of(request).finish(false);
     }
 
     private ResponseCookie createRefreshCookie(String refresh) {
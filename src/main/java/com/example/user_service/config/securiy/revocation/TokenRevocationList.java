@@ -0,0 +1,254 @@
+package com.example.user_service.config.securiy.revocation;
+
+import com.example.user_service.config.securiy.jwt.JWTUtil;
+import com.example.user_service.entity.RevokedToken;
+import com.example.user_service.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Access 토큰 폐기 목록. 토큰 ID(jti) 단위와 "사용자별 특정 시각 이전 발급분" 단위를 지원합니다.
+ * - 조회는 Bloom 필터를 먼저 확인하므로, 폐기되지 않은 토큰(대부분의 경우)은 잠금/할당 없이 끝납니다.
+ * - 폐기 항목은 revoked_token 테이블에 저장되고, 각 파드는 pollInterval 마다 직전 조회 이후 갱신된 항목만 읽어 합칩니다.
+ *   (폐기한 파드에는 커밋 즉시, 다른 파드에는 최대 pollInterval 뒤에 반영)
+ *   갱신 시각은 쓴 파드의 시계이고 커밋까지 시차가 있으므로 POLL_OVERLAP 만큼 겹쳐 읽습니다 (같은 항목을 다시 합쳐도 결과는 같음).
+ * - 항목은 대상 토큰이 모두 만료되는 시각에 자동으로 빠지고, purgeInterval 마다 DB 정리 후 전체를 다시 읽어 필터를 새로 만듭니다.
+ * 메트릭: token.revocation.checks{result}, token.revocation.entries
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(TokenRevocationProperties.class)
+public class TokenRevocationList {
+
+    private static final long JTI_SEED = 0x6a7469L;
+    private static final long USER_SEED = 0x75736572L;
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationProperties properties;
+    private final Counter bloomNegative;
+    private final Counter falsePositive;
+    private final Counter revoked;
+
+    private volatile Snapshot snapshot;
+    // 마지막 조회 시작 시각 (이 파드 시계). null 이면 다음 폴링은 전체 조회
+    private LocalDateTime lastPolledAt;
+
+    /**
+     * @param filterCapacity 필터를 만들 때 잡은 항목 수 - 증분으로 이보다 많이 넣으면 오탐률이 올라가므로 다시 만듭니다.
+     * @param jtis           jti -> 토큰 만료 시각(ms)
+     * @param users          userId -> 이 시각(ms, 초 단위 절삭) 이전에 발급된 토큰은 폐기
+     */
+    private record Snapshot(BloomFilter filter, int filterCapacity, Map<String, Long> jtis, Map<String, Long> users) {
+    }
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository, TokenRevocationProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.bloomNegative = counter(meterRegistry, "bloom_negative");
+        this.falsePositive = counter(meterRegistry, "false_positive");
+        this.revoked = counter(meterRegistry, "revoked");
+        this.snapshot = new Snapshot(BloomFilter.create(properties.expectedEntries(), properties.falsePositiveRate()),
+                                     properties.expectedEntries(), Map.of(), Map.of());
+        Gauge.builder("token.revocation.entries", this, list -> list.snapshot.jtis().size() + list.snapshot.users().size())
+             .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("token.revocation.checks").tag("result", result).register(meterRegistry);
+    }
+
+    /**
+     * @param jti            토큰 ID (없으면 null)
+     * @param userId         토큰 소유자
+     * @param issuedAtMillis 토큰 발급 시각 (iat, 초 단위)
+     */
+    public boolean isRevoked(String jti, String userId, long issuedAtMillis) {
+        Snapshot current = snapshot;
+        boolean candidate = false;
+        if (jti != null && current.filter().mightContain(jti, JTI_SEED)) {
+            candidate = true;
+            Long expiresAt = current.jtis().get(jti);
+            if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+                revoked.increment();
+                return true;
+            }
+        }
+        if (userId != null && current.filter().mightContain(userId, USER_SEED)) {
+            candidate = true;
+            Long revokedBefore = current.users().get(userId);
+            if (revokedBefore != null && issuedAtMillis < revokedBefore) {
+                revoked.increment();
+                return true;
+            }
+        }
+        (candidate ? falsePositive : bloomNegative).increment();
+        return false;
+    }
+
+    /**
+     * 토큰 하나를 만료 시각까지 폐기합니다 (로그아웃).
+     */
+    public void revokeToken(String jti, Instant tokenExpiresAt) {
+        long now = System.currentTimeMillis();
+        if (tokenExpiresAt.toEpochMilli() <= now) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(RevokedToken.Type.JTI, jti, toLocalDateTime(now),
+                                                     toLocalDateTime(tokenExpiresAt.toEpochMilli())));
+        afterCommit(() -> apply(RevokedToken.Type.JTI, jti, tokenExpiresAt.toEpochMilli()));
+    }
+
+    /**
+     * 지금까지 이 사용자에게 발급된 모든 Access 토큰을 폐기합니다 (비밀번호 변경).
+     * iat 가 초 단위이므로 같은 초에 발급된 토큰은 폐기되지 않습니다 (변경 직후 재로그인 허용).
+     */
+    public void revokeUser(String userId) {
+        long revokedBefore = System.currentTimeMillis() / 1000 * 1000;
+        long expiresAt = revokedBefore + JWTUtil.ACCESS_TOKEN_EXPIRED_MS;
+        revokedTokenRepository.save(new RevokedToken(RevokedToken.Type.USER, userId, toLocalDateTime(revokedBefore),
+                                                     toLocalDateTime(expiresAt)));
+        afterCommit(() -> apply(RevokedToken.Type.USER, userId, revokedBefore));
+    }
+
+    @Scheduled(fixedDelayString = "${token.revocation.poll-interval:5s}")
+    public synchronized void reload() {
+        long now = System.currentTimeMillis();
+        LocalDateTime polledAt = toLocalDateTime(now);
+        if (lastPolledAt == null) {
+            rebuild(revokedTokenRepository.findAllByExpiresAtAfter(polledAt), now);
+        } else {
+            merge(revokedTokenRepository.findAllByUpdatedAtAfterAndExpiresAtAfter(lastPolledAt.minus(POLL_OVERLAP), polledAt), now);
+        }
+        lastPolledAt = polledAt;
+    }
+
+    @Scheduled(fixedDelayString = "${token.revocation.purge-interval:10m}")
+    public void purgeExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(toLocalDateTime(System.currentTimeMillis()));
+        if (deleted > 0) {
+            log.info("만료된 토큰 폐기 항목 {} 건을 삭제했습니다.", deleted);
+        }
+        // 증분 조회로는 필터에서 빠진 항목을 지울 수 없으므로 여기서 전체를 다시 읽어 필터를 새로 만듭니다.
+        synchronized (this) {
+            lastPolledAt = null;
+        }
+        reload();
+    }
+
+    // 조회가 시작된 뒤 이 파드에서 커밋된 폐기가 빠지지 않도록, 아직 유효한 기존 항목도 합칩니다. (폐기는 취소되지 않으므로 합집합이 안전)
+    private synchronized void rebuild(List<RevokedToken> entries, long now) {
+        Snapshot current = snapshot;
+        Map<String, Long> jtis = new HashMap<>();
+        Map<String, Long> users = new HashMap<>();
+        current.jtis().forEach((jti, expiresAt) -> {
+            if (expiresAt > now) {
+                jtis.put(jti, expiresAt);
+            }
+        });
+        current.users().forEach((userId, revokedBefore) -> {
+            if (revokedBefore + JWTUtil.ACCESS_TOKEN_EXPIRED_MS > now) {
+                users.put(userId, revokedBefore);
+            }
+        });
+        for (RevokedToken entry : entries) {
+            if (entry.getType() == RevokedToken.Type.JTI) {
+                jtis.merge(entry.getSubject(), toEpochMillis(entry.getExpiresAt()), Math::max);
+            } else {
+                users.merge(entry.getSubject(), toEpochMillis(entry.getRevokedBefore()), Math::max);
+            }
+        }
+
+        snapshot = withNewFilter(jtis, users);
+    }
+
+    // 증분 조회 결과를 합칩니다. 필터에는 새 항목만 더하고, 예상 크기를 넘으면 새로 만듭니다.
+    private synchronized void merge(List<RevokedToken> entries, long now) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        Map<String, Long> jtis = new HashMap<>(current.jtis());
+        Map<String, Long> users = new HashMap<>(current.users());
+        for (RevokedToken entry : entries) {
+            if (entry.getType() == RevokedToken.Type.JTI) {
+                jtis.merge(entry.getSubject(), toEpochMillis(entry.getExpiresAt()), Math::max);
+            } else {
+                users.merge(entry.getSubject(), toEpochMillis(entry.getRevokedBefore()), Math::max);
+            }
+        }
+        if (jtis.size() + users.size() > current.filterCapacity()) {
+            jtis.values().removeIf(expiresAt -> expiresAt <= now);
+            users.values().removeIf(revokedBefore -> revokedBefore + JWTUtil.ACCESS_TOKEN_EXPIRED_MS <= now);
+            snapshot = withNewFilter(jtis, users);
+            return;
+        }
+        for (RevokedToken entry : entries) {
+            current.filter().put(entry.getSubject(), entry.getType() == RevokedToken.Type.JTI ? JTI_SEED : USER_SEED);
+        }
+        snapshot = new Snapshot(current.filter(), current.filterCapacity(), Map.copyOf(jtis), Map.copyOf(users));
+    }
+
+    private Snapshot withNewFilter(Map<String, Long> jtis, Map<String, Long> users) {
+        int capacity = Math.max(properties.expectedEntries(), (jtis.size() + users.size()) * 2);
+        BloomFilter filter = BloomFilter.create(capacity, properties.falsePositiveRate());
+        jtis.keySet().forEach(jti -> filter.put(jti, JTI_SEED));
+        users.keySet().forEach(userId -> filter.put(userId, USER_SEED));
+        return new Snapshot(filter, capacity, Map.copyOf(jtis), Map.copyOf(users));
+    }
+
+    // 이 파드에는 폴링을 기다리지 않고 바로 반영합니다. 필터는 공유하고 맵만 복사해 교체합니다.
+    private synchronized void apply(RevokedToken.Type type, String subject, long value) {
+        Snapshot current = snapshot;
+        Map<String, Long> jtis = current.jtis();
+        Map<String, Long> users = current.users();
+        if (type == RevokedToken.Type.JTI) {
+            jtis = new HashMap<>(jtis);
+            jtis.put(subject, value);
+            jtis = Map.copyOf(jtis);
+        } else {
+            users = new HashMap<>(users);
+            users.merge(subject, value, Math::max);
+            users = Map.copyOf(users);
+        }
+        current.filter().put(subject, type == RevokedToken.Type.JTI ? JTI_SEED : USER_SEED);
+        snapshot = new Snapshot(current.filter(), current.filterCapacity(), jtis, users);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.user_service.config.securiy.revocation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * token.revocation.* 설정.
+ *
+ * @param pollInterval       다른 파드가 새로 남긴 폐기 항목을 DB 에서 읽는 주기
+ * @param purgeInterval      만료된 폐기 항목 삭제 및 전체 재구성 주기
+ * @param expectedEntries    Bloom 필터 크기 산정용 예상 항목 수 (실제 항목이 더 많으면 재구성 시 늘어남)
+ * @param falsePositiveRate  Bloom 필터 목표 오탐률
+ */
+@ConfigurationProperties("token.revocation")
+public record TokenRevocationProperties(
+        Duration pollInterval,
+        Duration purgeInterval,
+        Integer expectedEntries,
+        Double falsePositiveRate
+) {
+
+    public TokenRevocationProperties {
+        if (pollInterval == null) {
+            pollInterval = Duration.ofSeconds(5);
+        }
+        if (purgeInterval == null) {
+            purgeInterval = Duration.ofMinutes(10);
+        }
+        if (expectedEntries == null) {
+            expectedEntries = 10_000;
+        }
+        if (falsePositiveRate == null) {
+            falsePositiveRate = 0.01;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.user_service.config.securiy.throttle;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (GCRA: Generic Cell Rate Algorithm).
+ * 버킷 상태는 "이론적 도착 시각(TAT)" 하나뿐이라 키마다 AtomicLong 한 개를 CAS 로 갱신하며, 락이 없습니다.
+ * 키 맵은 ConcurrentHashMap(버킷 단위로 분할된 구조)을 사용합니다.
+ */
+public class GcraRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param permits 기간당 허용 횟수
+     * @param period  기간
+     * @param burst   연속으로 허용할 최대 횟수
+     */
+    public GcraRateLimiter(int permits, Duration period, int burst, LongSupplier clock) {
+        this.emissionIntervalNanos = period.toNanos() / permits;
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+        this.clock = clock;
+    }
+
+    /**
+     * @return 0 이면 허용, 양수이면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = tat.get();
+            long base = Math.max(current, now);
+            long next = base + emissionIntervalNanos;
+            long allowAt = next - burstToleranceNanos - emissionIntervalNanos;
+            if (now < allowAt) {
+                return allowAt - now;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * TAT 가 지난 키는 버킷이 가득 찬 상태와 같으므로 제거해도 동작이 바뀌지 않습니다.
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() <= now);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.user_service.config.securiy.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 로그인 시도 스로틀. BCrypt 검증(authenticate) 전에 이메일별 / IP 별 버킷을 차례로 확인합니다.
+ * 메트릭: login.throttle.requests{scope, result}, login.throttle.keys{scope}
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(LoginThrottleProperties.class)
+public class LoginThrottle {
+
+    private final boolean enabled;
+    private final GcraRateLimiter perEmail;
+    private final GcraRateLimiter perIp;
+    private final Counter allowed;
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByIp;
+
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.perEmail = limiter(properties.perEmail());
+        this.perIp = limiter(properties.perIp());
+        this.allowed = counter(meterRegistry, "all", "allowed");
+        this.rejectedByEmail = counter(meterRegistry, "email", "rejected");
+        this.rejectedByIp = counter(meterRegistry, "ip", "rejected");
+        Gauge.builder("login.throttle.keys", perEmail, GcraRateLimiter::size).tag("scope", "email").register(meterRegistry);
+        Gauge.builder("login.throttle.keys", perIp, GcraRateLimiter::size).tag("scope", "ip").register(meterRegistry);
+    }
+
+    private static GcraRateLimiter limiter(LoginThrottleProperties.Limit limit) {
+        return new GcraRateLimiter(limit.permits(), limit.period(), limit.burst(), System::nanoTime);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String scope, String result) {
+        return Counter.builder("login.throttle.requests")
+                      .tag("scope", scope)
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * @return 0 이면 허용, 양수이면 Retry-After 로 돌려줄 초
+     */
+    public long tryAcquire(String email, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+        // IP 를 먼저 확인해 한 곳에서 여러 계정을 두드리는 경우 계정 버킷을 소모하지 않게 합니다.
+        long waitNanos = perIp.tryAcquire(clientIp == null ? "" : clientIp);
+        if (waitNanos > 0) {
+            rejectedByIp.increment();
+            return toRetryAfterSeconds(waitNanos);
+        }
+        waitNanos = perEmail.tryAcquire(email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+        if (waitNanos > 0) {
+            rejectedByEmail.increment();
+            return toRetryAfterSeconds(waitNanos);
+        }
+        allowed.increment();
+        return 0;
+    }
+
+    private long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    @Scheduled(fixedDelayString = "${login.throttle.evict-interval:1m}")
+    public void evictIdle() {
+        int evicted = perEmail.evictIdle() + perIp.evictIdle();
+        if (evicted > 0) {
+            log.debug("로그인 스로틀 유휴 키 {} 개를 정리했습니다.", evicted);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.user_service.config.securiy.throttle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * login.throttle.* 설정.
+ *
+ * @param enabled       스로틀 사용 여부
+ * @param perEmail      이메일(계정)별 한도
+ * @param perIp         클라이언트 IP 별 한도
+ * @param evictInterval 유휴 키 정리 주기
+ */
+@ConfigurationProperties("login.throttle")
+public record LoginThrottleProperties(
+        boolean enabled,
+        Limit perEmail,
+        Limit perIp,
+        Duration evictInterval
+) {
+
+    public LoginThrottleProperties {
+        if (perEmail == null) {
+            perEmail = new Limit(5, Duration.ofMinutes(1), 5);
+        }
+        if (perIp == null) {
+            perIp = new Limit(30, Duration.ofMinutes(1), 10);
+        }
+        if (evictInterval == null) {
+            evictInterval = Duration.ofMinutes(1);
+        }
+    }
+
+    public record Limit(int permits, Duration period, int burst) {
+    }
+}
@@ -0,0 +1,443 @@
+package com.example.user_service.config.token;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파드 로컬 메모리 Refresh 토큰 저장소.
+ * - 토큰 조회는 잠금 없는 전역 맵에서 처리하고, 쓰기는 사용자 ID 로 고른 샤드 단위로 직렬화합니다.
+ *   샤드는 사용자별 토큰 목록(발급 순)을 가지므로 사용자 전체 삭제가 해당 사용자 토큰 수만큼만 비용이 듭니다.
+ * - 사용자당 maxSessionsPerUser 개를 넘으면 저장할 때 가장 오래된 토큰부터 지웁니다. 재생할 때도 같은 규칙이 적용되므로
+ *   이 삭제는 로그에 따로 남기지 않습니다.
+ * - 만료 시각이 지난 토큰은 조회되지 않으며 {@link #evictExpired()} 에서 제거됩니다.
+ * - directory 가 있으면 모든 변경을 샤드별 append-only 로그(tokens-{샤드}.log)에 남기고, {@link #snapshot()} 때 전체를
+ *   스냅샷(tokens.snapshot)으로 기록한 뒤 로그를 비웁니다. 로그는 샤드 잠금 안에서 기록하므로 샤드끼리는 서로 기다리지 않고,
+ *   한 사용자의 변경은 한 로그에만 있으므로 로그 사이의 순서는 재생 결과에 영향이 없습니다.
+ *   기동 시 스냅샷 → 로그 순서로 재생한 뒤 바로 스냅샷으로 합쳐 두므로, 샤드 수를 바꿔 재시작해도 됩니다.
+ *   로그는 쓰기마다 OS 로 내보내므로 프로세스 재시작에는 유실이 없고, 노드 장애 시에는 마지막 {@link #sync()} 이후 변경이 유실될 수 있습니다.
+ *
+ * 다른 파드와 공유되지 않으므로, 재발급 요청이 로그인한 파드로 가도록 보장되는 경우(단일 인스턴스, sticky 라우팅)에만 사용합니다.
+ */
+@Slf4j
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, Closeable {
+
+    private static final String SNAPSHOT_FILE = "tokens.snapshot";
+    private static final String LOG_FILES = "tokens-*.log*";
+    private static final String OLD_LOG_SUFFIX = ".old";
+
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Shard[] shards;
+    private final int maxSessionsPerUser;
+    private final Clock clock;
+    private final Path directory;
+    private volatile boolean closed;
+
+    private record Entry(String userId, long expiresAtMillis) {
+    }
+
+    /**
+     * 사용자별 토큰 목록(발급 순)과 로그 파일. 모든 필드는 이 객체를 잠근 상태에서만 다룹니다.
+     */
+    private static final class Shard {
+
+        private final Map<String, Set<String>> users = new HashMap<>();
+        private final String logFile;
+        private FileOutputStream logStream;
+        private BufferedWriter logWriter;
+
+        private Shard(int index) {
+            this.logFile = "tokens-" + index + ".log";
+        }
+    }
+
+    /**
+     * @param shardCount         2 의 거듭제곱으로 올림
+     * @param maxSessionsPerUser 0 이하면 제한 없음
+     * @param directory          null 이면 디스크에 남기지 않음
+     */
+    public InMemoryRefreshTokenStore(int shardCount, int maxSessionsPerUser, Path directory, Clock clock) {
+        int size = Integer.highestOneBit(Math.max(1, shardCount - 1)) << 1;
+        this.shards = new Shard[shardCount <= 1 ? 1 : size];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i);
+        }
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.clock = clock;
+        this.directory = directory;
+        if (directory != null) {
+            recover();
+            for (Shard shard : shards) {
+                openLog(shard);
+            }
+        }
+    }
+
+    private Shard shardOf(String userId) {
+        int hash = userId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    @Override
+    public void save(String userId, String refresh, Instant expiresAt) {
+        Shard shard = shardOf(userId);
+        // 메모리 반영과 로그 기록 순서가 샤드 안에서 같도록 함께 잠급니다.
+        synchronized (shard) {
+            index(shard, userId, refresh, expiresAt.toEpochMilli());
+            append(shard, "S\t" + expiresAt.toEpochMilli() + '\t' + userId + '\t' + refresh);
+        }
+    }
+
+    @Override
+    public boolean exists(String refresh) {
+        Entry entry = tokens.get(refresh);
+        return entry != null && entry.expiresAtMillis() > clock.millis();
+    }
+
+    @Override
+    public boolean delete(String refresh) {
+        Entry entry = tokens.get(refresh);
+        if (entry == null) {
+            return false;
+        }
+        Shard shard = shardOf(entry.userId());
+        synchronized (shard) {
+            if (!unindex(shard, refresh)) {
+                return false;
+            }
+            append(shard, "D\t" + refresh);
+            return true;
+        }
+    }
+
+    /**
+     * 사용자 토큰 목록을 통째로 떼어 내고 로그에는 한 줄(U)만 남깁니다.
+     */
+    @Override
+    public int deleteAllByUserId(String userId) {
+        Shard shard = shardOf(userId);
+        synchronized (shard) {
+            int removed = unindexUser(shard, userId);
+            if (removed > 0) {
+                append(shard, "U\t" + userId);
+            }
+            return removed;
+        }
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    /**
+     * 만료된 토큰을 제거합니다. 재생 시에도 만료 토큰은 버려지므로 로그에 남기지 않습니다.
+     */
+    public int evictExpired() {
+        long now = clock.millis();
+        int evicted = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                Iterator<Set<String>> owned = shard.users.values().iterator();
+                while (owned.hasNext()) {
+                    Set<String> refreshes = owned.next();
+                    Iterator<String> it = refreshes.iterator();
+                    while (it.hasNext()) {
+                        String refresh = it.next();
+                        if (tokens.get(refresh).expiresAtMillis() <= now) {
+                            tokens.remove(refresh);
+                            it.remove();
+                            evicted++;
+                        }
+                    }
+                    if (refreshes.isEmpty()) {
+                        owned.remove();
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 로그를 OS 버퍼에서 디스크까지 내립니다.
+     */
+    public void sync() {
+        if (directory == null || closed) {
+            return;
+        }
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                try {
+                    shard.logWriter.flush();
+                    shard.logStream.getChannel().force(false);
+                } catch (IOException e) {
+                    log.warn("Refresh 토큰 로그 fsync 실패. file: {}", shard.logFile, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 샤드마다 현재 로그를 .old 로 돌린 뒤 전체 토큰을 스냅샷으로 기록하고 이전 로그를 지웁니다.
+     * 로그를 돌린 뒤의 변경은 새 로그에도 남으므로, 스냅샷에 반영되었는지와 관계없이 재생 결과가 같습니다.
+     */
+    public synchronized void snapshot() {
+        if (directory == null || closed) {
+            return;
+        }
+        try {
+            for (Shard shard : shards) {
+                synchronized (shard) {
+                    shard.logWriter.close();
+                    Path current = directory.resolve(shard.logFile);
+                    Path oldLog = directory.resolve(shard.logFile + OLD_LOG_SUFFIX);
+                    if (!Files.exists(current)) {
+                        // 같은 디렉터리로 기동한 다른 인스턴스가 복구하며 이미 합친 경우
+                    } else if (Files.exists(oldLog)) {
+                        // 이전 스냅샷이 실패해 남은 로그가 있으면 이어 붙여 재생 순서를 유지합니다.
+                        Files.write(oldLog, Files.readAllBytes(current), StandardOpenOption.APPEND);
+                        Files.delete(current);
+                    } else {
+                        Files.move(current, oldLog);
+                    }
+                    openLog(shard);
+                }
+            }
+
+            int written = writeSnapshot();
+            for (Shard shard : shards) {
+                Files.deleteIfExists(directory.resolve(shard.logFile + OLD_LOG_SUFFIX));
+            }
+            log.debug("Refresh 토큰 스냅샷 기록 완료. 토큰 수: {}", written);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Refresh 토큰 스냅샷 기록 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (directory == null) {
+            return;
+        }
+        snapshot();
+        closed = true;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                try {
+                    shard.logWriter.close();
+                } catch (IOException e) {
+                    log.warn("Refresh 토큰 로그 닫기 실패. file: {}", shard.logFile, e);
+                }
+            }
+        }
+    }
+
+    private int writeSnapshot() throws IOException {
+        long now = clock.millis();
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        int written = 0;
+        try (FileOutputStream out = new FileOutputStream(temp.toFile());
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            for (Shard shard : shards) {
+                // 발급 순서를 유지해 기록하되, 디스크 쓰기 동안 샤드를 잡고 있지 않도록 줄을 먼저 복사합니다.
+                List<String> lines = new ArrayList<>();
+                synchronized (shard) {
+                    for (Set<String> refreshes : shard.users.values()) {
+                        for (String refresh : refreshes) {
+                            Entry entry = tokens.get(refresh);
+                            if (entry.expiresAtMillis() > now) {
+                                lines.add(entry.expiresAtMillis() + "\t" + entry.userId() + '\t' + refresh);
+                            }
+                        }
+                    }
+                }
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+                written += lines.size();
+            }
+            writer.flush();
+            out.getChannel().force(false);
+        }
+        Files.move(temp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    // 호출 측이 shard 를 잠근 상태여야 합니다.
+    private void index(Shard shard, String userId, String refresh, long expiresAtMillis) {
+        tokens.put(refresh, new Entry(userId, expiresAtMillis));
+        Set<String> refreshes = shard.users.computeIfAbsent(userId, key -> new LinkedHashSet<>());
+        refreshes.add(refresh);
+        if (maxSessionsPerUser > 0) {
+            Iterator<String> oldest = refreshes.iterator();
+            while (refreshes.size() > maxSessionsPerUser) {
+                tokens.remove(oldest.next());
+                oldest.remove();
+            }
+        }
+    }
+
+    private boolean unindex(Shard shard, String refresh) {
+        Entry removed = tokens.remove(refresh);
+        if (removed == null) {
+            return false;
+        }
+        Set<String> refreshes = shard.users.get(removed.userId());
+        if (refreshes != null) {
+            refreshes.remove(refresh);
+            if (refreshes.isEmpty()) {
+                shard.users.remove(removed.userId());
+            }
+        }
+        return true;
+    }
+
+    private int unindexUser(Shard shard, String userId) {
+        Set<String> refreshes = shard.users.remove(userId);
+        if (refreshes == null) {
+            return 0;
+        }
+        for (String refresh : refreshes) {
+            tokens.remove(refresh);
+        }
+        return refreshes.size();
+    }
+
+    // 호출 측이 shard 를 잠근 상태여야 합니다.
+    private void append(Shard shard, String line) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            shard.logWriter.write(line);
+            shard.logWriter.newLine();
+            shard.logWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Refresh 토큰 로그 기록 실패", e);
+        }
+    }
+
+    private void openLog(Shard shard) {
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(shard.logFile);
+            boolean truncated = endsWithPartialLine(file);
+            shard.logStream = new FileOutputStream(file.toFile(), true);
+            shard.logWriter = new BufferedWriter(new OutputStreamWriter(shard.logStream, StandardCharsets.UTF_8));
+            if (truncated) {
+                // 잘린 줄 뒤에 이어 쓰지 않도록 줄을 끊어 둡니다.
+                shard.logWriter.newLine();
+                shard.logWriter.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Refresh 토큰 로그 열기 실패: " + directory, e);
+        }
+    }
+
+    private static boolean endsWithPartialLine(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            return false;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            raf.seek(raf.length() - 1);
+            return raf.read() != '\n';
+        }
+    }
+
+    private void recover() {
+        long now = clock.millis();
+        int replayed = 0;
+        try {
+            Files.createDirectories(directory);
+            Path snapshot = directory.resolve(SNAPSHOT_FILE);
+            if (Files.exists(snapshot)) {
+                try (BufferedReader reader = Files.newBufferedReader(snapshot, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] fields = line.split("\t", 3);
+                        long expiresAt = Long.parseLong(fields[0]);
+                        if (expiresAt > now) {
+                            index(shardOf(fields[1]), fields[1], fields[2], expiresAt);
+                        }
+                    }
+                }
+            }
+
+            // 샤드 안에서는 .old 가 먼저 쓰인 로그입니다. 이전 기동의 샤드 수와 관계없이 모든 로그 파일을 읽습니다.
+            List<Path> logs = new ArrayList<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, LOG_FILES)) {
+                files.forEach(logs::add);
+            }
+            logs.sort(Comparator.comparing((Path file) -> !file.toString().endsWith(OLD_LOG_SUFFIX)));
+            for (Path file : logs) {
+                replayed += replay(file, now);
+            }
+            if (!logs.isEmpty()) {
+                writeSnapshot();
+                for (Path file : logs) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Refresh 토큰 저장소 복구 실패: " + directory, e);
+        }
+        log.info("Refresh 토큰 저장소 복구 완료. 토큰 수: {}, 재생한 로그: {}", size(), replayed);
+    }
+
+    private int replay(Path file, long now) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 4);
+                if (fields[0].equals("S") && fields.length == 4) {
+                    long expiresAt = Long.parseLong(fields[1]);
+                    if (expiresAt > now) {
+                        index(shardOf(fields[2]), fields[2], fields[3], expiresAt);
+                    }
+                } else if (fields[0].equals("D") && fields.length == 2) {
+                    Entry entry = tokens.get(fields[1]);
+                    if (entry != null) {
+                        unindex(shardOf(entry.userId()), fields[1]);
+                    }
+                } else if (fields[0].equals("U") && fields.length == 2) {
+                    unindexUser(shardOf(fields[1]), fields[1]);
+                } else {
+                    // 비정상 종료로 마지막 줄이 잘린 경우
+                    log.warn("Refresh 토큰 로그의 손상된 줄을 건너뜁니다. file: {}", file.getFileName());
+                    continue;
+                }
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.user_service.config.token;
+
+import com.example.user_service.entity.RefreshToken;
+import com.example.user_service.repository.RefreshTokenRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * refresh_token 테이블 저장소. writeBehindQueue 가 있으면 저장은 큐를 거쳐 모아서 커밋되고,
+ * 조회/삭제는 아직 큐에 있는 토큰까지 포함합니다.
+ * 저장할 때 같은 트랜잭션에서 사용자당 maxSessionsPerUser 개를 넘는 오래된 토큰을 지웁니다 (큐를 쓰면 큐가 커밋할 때).
+ */
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenWriteBehindQueue writeBehindQueue;
+    private final SessionLimitedTokenWriter writer;
+    private final boolean limited;
+
+    /**
+     * @param writeBehindQueue   null 이면 요청마다 바로 저장
+     * @param maxSessionsPerUser 0 이하면 제한 없음
+     */
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository, RefreshTokenWriteBehindQueue writeBehindQueue,
+                                TransactionTemplate transactionTemplate, int maxSessionsPerUser) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.writeBehindQueue = writeBehindQueue;
+        this.writer = new SessionLimitedTokenWriter(refreshTokenRepository, transactionTemplate, maxSessionsPerUser);
+        this.limited = maxSessionsPerUser > 0;
+    }
+
+    @Override
+    public void save(String userId, String refresh, Instant expiresAt) {
+        RefreshToken refreshToken = new RefreshToken(userId, refresh, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+        if (writeBehindQueue != null) {
+            writeBehindQueue.enqueue(refreshToken);
+        } else if (limited) {
+            writer.save(List.of(refreshToken));
+        } else {
+            refreshTokenRepository.save(refreshToken);
+        }
+    }
+
+    @Override
+    public boolean exists(String refresh) {
+        if (writeBehindQueue != null && writeBehindQueue.isPending(refresh)) {
+            return true;
+        }
+        return refreshTokenRepository.existsUnexpired(refresh, LocalDateTime.now());
+    }
+
+    @Override
+    public boolean delete(String refresh) {
+        if (writeBehindQueue != null && writeBehindQueue.cancel(refresh)) {
+            return true;
+        }
+        return refreshTokenRepository.deleteByRefresh(refresh) > 0;
+    }
+
+    @Override
+    public int deleteAllByUserId(String userId) {
+        int cancelled = writeBehindQueue != null ? writeBehindQueue.cancelAllByUserId(userId) : 0;
+        return cancelled + refreshTokenRepository.deleteAllByUserId(userId);
+    }
+}
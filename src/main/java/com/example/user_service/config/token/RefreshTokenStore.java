@@ -0,0 +1,30 @@
+package com.example.user_service.config.token;
+
+import java.time.Instant;
+
+/**
+ * Refresh 토큰 저장소. refresh-token.store.type 으로 구현을 고릅니다.
+ * - jpa: refresh_token 테이블 ({@link JpaRefreshTokenStore}, 기본값)
+ * - memory: 파드 로컬 메모리 + 로컬 디스크 스냅샷/로그 ({@link InMemoryRefreshTokenStore})
+ */
+public interface RefreshTokenStore {
+
+    void save(String userId, String refresh, Instant expiresAt);
+
+    /**
+     * @return 저장되어 있고 만료 전이면 true
+     */
+    boolean exists(String refresh);
+
+    /**
+     * @return 삭제한 토큰이 있으면 true
+     */
+    boolean delete(String refresh);
+
+    /**
+     * 사용자의 모든 토큰을 한 번에 삭제합니다 (비밀번호 변경, 탈퇴, 전체 로그아웃).
+     *
+     * @return 삭제한 토큰 수
+     */
+    int deleteAllByUserId(String userId);
+}
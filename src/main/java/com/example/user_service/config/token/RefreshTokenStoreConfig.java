@@ -0,0 +1,47 @@
+package com.example.user_service.config.token;
+
+import com.example.user_service.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(RefreshTokenStoreProperties.class)
+public class RefreshTokenStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "refresh-token.store.type", havingValue = "jpa", matchIfMissing = true)
+    public RefreshTokenStore jpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                                  ObjectProvider<RefreshTokenWriteBehindQueue> writeBehindQueue,
+                                                  PlatformTransactionManager transactionManager,
+                                                  RefreshTokenStoreProperties properties) {
+        return new JpaRefreshTokenStore(refreshTokenRepository, writeBehindQueue.getIfAvailable(),
+                new TransactionTemplate(transactionManager), properties.maxSessionsPerUser());
+    }
+
+    // 종료 시 close() 에서 스냅샷을 남깁니다.
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "refresh-token.store.type", havingValue = "memory")
+    public InMemoryRefreshTokenStore inMemoryRefreshTokenStore(RefreshTokenStoreProperties properties,
+                                                               TaskScheduler taskScheduler,
+                                                               MeterRegistry meterRegistry) {
+        RefreshTokenStoreProperties.Memory memory = properties.memory();
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(memory.shards(), properties.maxSessionsPerUser(),
+                memory.directory(), Clock.systemUTC());
+
+        taskScheduler.scheduleWithFixedDelay(store::evictExpired, memory.evictInterval());
+        taskScheduler.scheduleWithFixedDelay(store::sync, memory.syncInterval());
+        taskScheduler.scheduleWithFixedDelay(store::snapshot, memory.snapshotInterval());
+        Gauge.builder("refresh.token.store.size", store, InMemoryRefreshTokenStore::size).register(meterRegistry);
+        return store;
+    }
+}
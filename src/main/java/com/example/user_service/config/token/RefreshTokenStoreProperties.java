@@ -0,0 +1,58 @@
+package com.example.user_service.config.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * refresh-token.store.* 설정.
+ *
+ * @param type               jpa | memory
+ * @param maxSessionsPerUser 사용자당 유지할 Refresh 토큰 수. 초과하면 가장 오래된 토큰부터 삭제 (0 이하면 제한 없음)
+ * @param memory             memory 저장소 설정
+ */
+@ConfigurationProperties("refresh-token.store")
+public record RefreshTokenStoreProperties(
+        String type,
+        Integer maxSessionsPerUser,
+        Memory memory
+) {
+
+    public RefreshTokenStoreProperties {
+        if (type == null) {
+            type = "jpa";
+        }
+        if (maxSessionsPerUser == null) {
+            maxSessionsPerUser = 5;
+        }
+        if (memory == null) {
+            memory = new Memory(null, null, null, null, null);
+        }
+    }
+
+    /**
+     * @param shards           샤드 수 (2 의 거듭제곱으로 올림)
+     * @param directory        스냅샷/로그 디렉터리 (비우면 디스크에 남기지 않음)
+     * @param snapshotInterval 스냅샷 주기 (로그 크기 제한)
+     * @param syncInterval     로그 fsync 주기
+     * @param evictInterval    만료 토큰 정리 주기
+     */
+    public record Memory(Integer shards, Path directory, Duration snapshotInterval, Duration syncInterval, Duration evictInterval) {
+
+        public Memory {
+            if (shards == null) {
+                shards = 16;
+            }
+            if (snapshotInterval == null) {
+                snapshotInterval = Duration.ofMinutes(5);
+            }
+            if (syncInterval == null) {
+                syncInterval = Duration.ofSeconds(1);
+            }
+            if (evictInterval == null) {
+                evictInterval = Duration.ofMinutes(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.user_service.config.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * refresh-token.write-behind.* 설정.
+ *
+ * @param enabled   로그인/재발급 시 Refresh 토큰 INSERT 를 모아서 처리할지 여부 (false 면 요청마다 바로 저장)
+ * @param batchSize 한 트랜잭션에 저장할 최대 토큰 수
+ * @param maxDelay  첫 토큰이 큐에 들어온 뒤 커밋까지 기다리는 최대 시간 (= 장애 시 잃을 수 있는 구간)
+ * @param capacity  큐 최대 크기 (가득 차면 요청 스레드에서 바로 저장)
+ */
+@ConfigurationProperties("refresh-token.write-behind")
+public record RefreshTokenWriteBehindProperties(
+        boolean enabled,
+        Integer batchSize,
+        Duration maxDelay,
+        Integer capacity
+) {
+
+    public RefreshTokenWriteBehindProperties {
+        if (batchSize == null) {
+            batchSize = 100;
+        }
+        if (maxDelay == null) {
+            maxDelay = Duration.ofMillis(50);
+        }
+        if (capacity == null) {
+            capacity = 10_000;
+        }
+    }
+}
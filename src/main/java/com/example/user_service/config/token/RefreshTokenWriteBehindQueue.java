@@ -0,0 +1,227 @@
+package com.example.user_service.config.token;
+
+import com.example.user_service.entity.RefreshToken;
+import com.example.user_service.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh 토큰 INSERT 를 짧은 구간(maxDelay) 동안 모아 한 트랜잭션으로 저장하는 write-behind 큐.
+ *
+ * 내구성 계약:
+ * - 응답이 나간 뒤 커밋 전(최대 maxDelay + 커밋 시간)에 프로세스가 비정상 종료되면 그 사이 토큰은 사라지고, 해당 사용자는 다시 로그인해야 합니다.
+ * - 정상 종료(server.shutdown: graceful) 시에는 웹 서버가 요청 처리를 마친 뒤 남은 토큰을 모두 저장하고 종료합니다.
+ * - 큐가 가득 차면 요청 스레드에서 바로 저장하므로 유실 구간이 늘어나지 않습니다.
+ * - 저장 전인 토큰도 {@link #isPending(String)} 으로 조회되므로 재발급 검증에는 영향이 없습니다 (파드 내부 한정).
+ * - 사용자당 세션 수 제한(refresh-token.store.max-sessions-per-user)은 토큰을 커밋하는 트랜잭션에서 배치 전체에 DELETE 한 번으로 적용합니다.
+ *
+ * 메트릭: refresh.token.write.behind.tokens{result}, refresh.token.write.behind.pending, refresh.token.write.behind.flush
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "refresh-token.write-behind.enabled", havingValue = "true")
+@EnableConfigurationProperties(RefreshTokenWriteBehindProperties.class)
+public class RefreshTokenWriteBehindQueue implements SmartLifecycle {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SessionLimitedTokenWriter writer;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<RefreshToken> queue;
+    private final Map<String, RefreshToken> pending = new ConcurrentHashMap<>();
+
+    private final Counter queued;
+    private final Counter syncFallback;
+    private final Counter flushed;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public RefreshTokenWriteBehindQueue(RefreshTokenRepository refreshTokenRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        RefreshTokenWriteBehindProperties properties,
+                                        RefreshTokenStoreProperties storeProperties,
+                                        MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.writer = new SessionLimitedTokenWriter(refreshTokenRepository, new TransactionTemplate(transactionManager),
+                storeProperties.maxSessionsPerUser());
+        this.batchSize = properties.batchSize();
+        this.maxDelayNanos = properties.maxDelay().toNanos();
+        this.queue = new ArrayBlockingQueue<>(properties.capacity());
+
+        this.queued = counter(meterRegistry, "queued");
+        this.syncFallback = counter(meterRegistry, "sync_fallback");
+        this.flushed = counter(meterRegistry, "flushed");
+        this.failed = counter(meterRegistry, "failed");
+        this.flushTimer = Timer.builder("refresh.token.write.behind.flush").register(meterRegistry);
+        Gauge.builder("refresh.token.write.behind.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("refresh.token.write.behind.tokens").tag("result", result).register(meterRegistry);
+    }
+
+    /**
+     * 큐에 넣을 수 없으면(가득 참 / 종료 중) 호출 스레드에서 바로 저장합니다.
+     */
+    public void enqueue(RefreshToken refreshToken) {
+        if (running) {
+            pending.put(refreshToken.getRefresh(), refreshToken);
+            if (queue.offer(refreshToken)) {
+                queued.increment();
+                return;
+            }
+            pending.remove(refreshToken.getRefresh(), refreshToken);
+        }
+        syncFallback.increment();
+        writer.save(List.of(refreshToken));
+    }
+
+    /**
+     * @return 저장 전이고 만료 전이면 true
+     */
+    public boolean isPending(String refresh) {
+        RefreshToken token = pending.get(refresh);
+        return token != null && token.getExpiresAt().isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * 아직 저장되지 않은 토큰을 취소합니다. 이미 저장 중인 토큰은 커밋 직후 삭제됩니다.
+     */
+    public boolean cancel(String refresh) {
+        return pending.remove(refresh) != null;
+    }
+
+    /**
+     * 사용자의 저장 전 토큰을 모두 취소합니다. 큐 크기(capacity)만큼만 훑으므로 DB 삭제 전에 호출합니다.
+     */
+    public int cancelAllByUserId(String userId) {
+        int cancelled = 0;
+        for (RefreshToken token : pending.values()) {
+            if (userId.equals(token.getUserId()) && pending.remove(token.getRefresh(), token)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "refresh-token-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        // JDBC 작업 중인 워커를 interrupt 하지 않고, 최대 poll 대기(1초) 안에 스스로 끝나기를 기다립니다.
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 워커가 끝난 뒤 남은 토큰을 현재 스레드에서 모두 저장
+        List<RefreshToken> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(remaining.size(), from + batchSize)));
+        }
+        log.info("Refresh 토큰 write-behind 큐 종료. 종료 시 저장한 토큰: {}", remaining.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)과 웹 서버 정지(DEFAULT_PHASE - 2048) 이후, DataSource 종료 전에 멈춥니다.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<RefreshToken> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                RefreshToken first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    RefreshToken next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<RefreshToken> batch) {
+        // 큐에 있는 동안 취소(재발급으로 교체)된 토큰은 저장하지 않습니다.
+        List<RefreshToken> toSave = batch.stream()
+                                         .filter(token -> pending.get(token.getRefresh()) == token)
+                                         .toList();
+        if (toSave.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> writer.save(toSave));
+            flushed.increment(toSave.size());
+        } catch (RuntimeException e) {
+            log.error("Refresh 토큰 일괄 저장 실패. 건별로 다시 저장합니다. 건수: {}", toSave.size(), e);
+            saveOneByOne(toSave);
+        }
+        for (RefreshToken token : toSave) {
+            if (!pending.remove(token.getRefresh(), token)) {
+                // 저장하는 동안 취소된 토큰 - 커밋된 행을 지워 교체 전 토큰이 되살아나지 않게 합니다.
+                refreshTokenRepository.deleteByRefresh(token.getRefresh());
+            }
+        }
+    }
+
+    private void saveOneByOne(List<RefreshToken> tokens) {
+        for (RefreshToken token : tokens) {
+            try {
+                writer.save(List.of(token));
+                flushed.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("Refresh 토큰 저장 실패로 토큰이 유실됩니다. userId: {}", token.getUserId(), e);
+            }
+        }
+    }
+}
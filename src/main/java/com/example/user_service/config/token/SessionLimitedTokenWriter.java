@@ -0,0 +1,60 @@
+package com.example.user_service.config.token;
+
+import com.example.user_service.entity.RefreshToken;
+import com.example.user_service.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Refresh 토큰 INSERT 와 사용자당 세션 수 제한을 한 트랜잭션으로 처리합니다. 배치에 사용자가 몇 명이든 정리는 DELETE 한 문장입니다.
+ * 같은 사용자의 로그인이 여러 파드에서 겹치면 username 인덱스 범위 잠금 순서가 엇갈려 교착 상태가 날 수 있으므로,
+ * DB 가 한쪽을 희생시키면({@link PessimisticLockingFailureException}) 처음부터 다시 시도합니다.
+ */
+@Slf4j
+class SessionLimitedTokenWriter {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSessionsPerUser;
+
+    /**
+     * @param maxSessionsPerUser 0 이하면 제한 없음
+     */
+    SessionLimitedTokenWriter(RefreshTokenRepository refreshTokenRepository, TransactionTemplate transactionTemplate,
+                              int maxSessionsPerUser) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    void save(List<RefreshToken> tokens) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveWithinLimit(tokens));
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Refresh 토큰 저장 중 잠금 충돌. 다시 시도합니다. 시도: {}, 건수: {}", attempt, tokens.size());
+            }
+        }
+    }
+
+    private void saveWithinLimit(List<RefreshToken> tokens) {
+        // 롤백된 시도에서 ID 가 채워진 엔티티는 merge 대상이 되므로 새로 만듭니다.
+        refreshTokenRepository.saveAll(tokens.stream()
+                                             .map(token -> token.getId() == null ? token
+                                                     : new RefreshToken(token.getUserId(), token.getRefresh(), token.getExpiresAt()))
+                                             .toList());
+        if (maxSessionsPerUser > 0) {
+            refreshTokenRepository.deleteOldestBeyond(tokens.stream().map(RefreshToken::getUserId).distinct().toList(),
+                    maxSessionsPerUser);
+        }
+    }
+}
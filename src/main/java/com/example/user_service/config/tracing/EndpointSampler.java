@@ -0,0 +1,52 @@
+package com.example.user_service.config.tracing;
+
+import brave.sampler.RateLimitingSampler;
+import brave.sampler.Sampler;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.List;
+
+/**
+ * 신규(루트) 트레이스의 헤드 샘플링 결정.
+ * 1) 경로 규칙의 확률을 traceId 기준으로 적용하고 2) 통과한 트레이스에 초당 상한을 적용합니다.
+ * 상위 서비스가 B3 헤더로 샘플링 여부를 전달한 요청은 그 결정을 그대로 따릅니다 (이 샘플러는 호출되지 않음).
+ */
+public class EndpointSampler extends Sampler {
+
+    private static final long PRECISION = 10_000;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final List<TracingSamplingProperties.Rule> rules;
+    private final float defaultProbability;
+    private final Sampler rateLimiter;
+
+    public EndpointSampler(TracingSamplingProperties properties) {
+        this.rules = List.copyOf(properties.rules());
+        this.defaultProbability = properties.defaultProbability();
+        this.rateLimiter = RateLimitingSampler.create(properties.maxTracesPerSecond());
+    }
+
+    @Override
+    public boolean isSampled(long traceId) {
+        float probability = probabilityFor(SamplingRequestFilter.currentPath());
+        if (probability <= 0f) {
+            return false;
+        }
+        if (probability < 1f && Math.floorMod(traceId, PRECISION) >= (long) (probability * PRECISION)) {
+            return false;
+        }
+        return rateLimiter.isSampled(traceId);
+    }
+
+    float probabilityFor(String path) {
+        if (path != null) {
+            for (TracingSamplingProperties.Rule rule : rules) {
+                if (pathMatcher.match(rule.pattern(), path)) {
+                    return rule.probability();
+                }
+            }
+        }
+        return defaultProbability;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.user_service.config.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 트레이스 시작(ServerHttpObservationFilter) 전에 요청 경로를 스레드에 보관해
+ * EndpointSampler 가 경로별 샘플링 규칙을 적용할 수 있게 합니다.
+ */
+public class SamplingRequestFilter extends OncePerRequestFilter {
+
+    private static final ThreadLocal<String> CURRENT_PATH = new ThreadLocal<>();
+
+    static String currentPath() {
+        return CURRENT_PATH.get();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CURRENT_PATH.set(request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT_PATH.remove();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.user_service.config.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * 헤드 샘플링에서 제외된(로컬에만 기록된) 스팬 중 에러/느린 스팬만 다음 핸들러(Zipkin)로 넘깁니다.
+ * 트레이스 전체가 아니라 조건을 만족한 스팬 단위로 보존됩니다.
+ */
+public class TailKeepSpanHandler extends SpanHandler {
+
+    private final long slowThresholdMicros;
+    private final Counter keptError;
+    private final Counter keptSlow;
+    private final Counter discarded;
+
+    public TailKeepSpanHandler(Duration slowThreshold, MeterRegistry meterRegistry) {
+        this.slowThresholdMicros = slowThreshold.toNanos() / 1_000;
+        this.keptError = keptCounter(meterRegistry, "error");
+        this.keptSlow = keptCounter(meterRegistry, "slow");
+        this.discarded = Counter.builder("tracing.spans.unsampled")
+                                .description("Unsampled spans dropped before reporting")
+                                .tag("decision", "dropped")
+                                .register(meterRegistry);
+    }
+
+    private static Counter keptCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("tracing.spans.unsampled")
+                      .description("Unsampled spans kept because they errored or were slow")
+                      .tag("decision", "kept_" + reason)
+                      .register(meterRegistry);
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (Boolean.TRUE.equals(context.sampled())) {
+            return true;
+        }
+        if (cause != Cause.FINISHED) {
+            return false;
+        }
+        if (span.error() != null || span.tag("error") != null || "SERVER_ERROR".equals(span.tag("outcome"))) {
+            keptError.increment();
+            return true;
+        }
+        if (span.finishTimestamp() - span.startTimestamp() >= slowThresholdMicros) {
+            keptSlow.increment();
+            return true;
+        }
+        discarded.increment();
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.user_service.config.tracing;
+
+import brave.TracingCustomizer;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.tracing.ConditionalOnEnabledTracing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import zipkin2.reporter.BytesEncoder;
+import zipkin2.reporter.BytesMessageSender;
+import zipkin2.reporter.brave.AsyncZipkinSpanHandler;
+import zipkin2.reporter.metrics.micrometer.MicrometerReporterMetrics;
+
+/**
+ * 경로별 확률 + 초당 상한 헤드 샘플링, 에러/느린 스팬 보존, Zipkin 전송 큐 제한.
+ * - tracing.sampling.tail-keep=true (기본): 에러/느린 스팬을 알아내려면 끝까지 기록해야 하므로 모든 스팬을 로컬에서 기록하고(alwaysSampleLocal)
+ *   전송 여부만 TailKeepSpanHandler 가 결정합니다. 이 경우 줄어드는 것은 Zipkin 전송량뿐이고 스팬 기록 CPU/할당은 그대로입니다.
+ * - tracing.sampling.tail-keep=false: 헤드 샘플링에서 제외된 요청은 스팬을 기록하지 않아 기록 비용까지 줄고, 에러/느린 스팬은 보존되지 않습니다.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingSamplingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public FilterRegistrationBean<SamplingRequestFilter> samplingRequestFilter() {
+        FilterRegistrationBean<SamplingRequestFilter> registration = new FilterRegistrationBean<>(new SamplingRequestFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public Sampler braveSampler(TracingSamplingProperties properties) {
+        return new EndpointSampler(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.sampling.tail-keep", havingValue = "true", matchIfMissing = true)
+    public TracingCustomizer alwaysSampleLocalCustomizer() {
+        return builder -> builder.alwaysSampleLocal();
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(name = "tracing.sampling.tail-keep", havingValue = "true", matchIfMissing = true)
+    public SpanHandler tailKeepSpanHandler(TracingSamplingProperties properties, MeterRegistry meterRegistry) {
+        return new TailKeepSpanHandler(properties.slowThreshold(), meterRegistry);
+    }
+
+    @Configuration
+    @ConditionalOnEnabledTracing("zipkin")
+    static class ZipkinReporterConfig {
+
+        // 큐가 가득 차면 스팬을 버리고 zipkin.reporter.spans.dropped 로 집계합니다.
+        @Bean
+        public AsyncZipkinSpanHandler zipkinSpanHandler(BytesMessageSender sender,
+                                                        BytesEncoder<MutableSpan> mutableSpanBytesEncoder,
+                                                        TracingSamplingProperties properties,
+                                                        MeterRegistry meterRegistry) {
+            return AsyncZipkinSpanHandler.newBuilder(sender)
+                                         .queuedMaxSpans(properties.reporter().queuedMaxSpans())
+                                         .queuedMaxBytes(properties.reporter().queuedMaxBytes())
+                                         .alwaysReportSpans(true)
+                                         .metrics(MicrometerReporterMetrics.create(meterRegistry))
+                                         .build(mutableSpanBytesEncoder);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.user_service.config.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * tracing.sampling.* 설정.
+ *
+ * @param defaultProbability  규칙에 매칭되지 않는 요청의 샘플링 확률
+ * @param maxTracesPerSecond  인스턴스당 초당 최대 신규 트레이스 수 (확률 적용 후 상한)
+ * @param tailKeep            샘플링되지 않은 스팬도 로컬에서 기록해 에러/느린 스팬을 전송할지 여부.
+ *                            true 면 기록 비용은 그대로이고 전송량만 줄어들며, false 면 샘플링되지 않은 요청은 기록하지 않습니다.
+ * @param slowThreshold       tailKeep 일 때 샘플링되지 않았어도 이 시간 이상 걸린 스팬은 전송
+ * @param rules               경로 패턴별 샘플링 확률 (위에서부터 첫 매칭 적용)
+ * @param reporter            Zipkin 전송 큐 크기
+ */
+@ConfigurationProperties("tracing.sampling")
+public record TracingSamplingProperties(
+        Float defaultProbability,
+        Integer maxTracesPerSecond,
+        Boolean tailKeep,
+        Duration slowThreshold,
+        List<Rule> rules,
+        Reporter reporter
+) {
+
+    public TracingSamplingProperties {
+        if (defaultProbability == null) {
+            defaultProbability = 0.1f;
+        }
+        if (maxTracesPerSecond == null) {
+            maxTracesPerSecond = 50;
+        }
+        if (tailKeep == null) {
+            tailKeep = true;
+        }
+        if (slowThreshold == null) {
+            slowThreshold = Duration.ofMillis(500);
+        }
+        if (rules == null) {
+            rules = List.of();
+        }
+        if (reporter == null) {
+            reporter = new Reporter(null, null);
+        }
+    }
+
+    public record Rule(String pattern, float probability) {
+    }
+
+    public record Reporter(Integer queuedMaxSpans, Integer queuedMaxBytes) {
+
+        public Reporter {
+            if (queuedMaxSpans == null) {
+                queuedMaxSpans = 10_000;
+            }
+            if (queuedMaxBytes == null) {
+                queuedMaxBytes = 5 * 1024 * 1024;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.user_service.config.traffic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기울기(gradient) 기반 동시 실행 한도.
+ * 장기 RTT(기준선) 대비 단기 RTT 가 늘어나면 DB/풀에 대기열이 생긴 것으로 보고 한도를 줄이고,
+ * 같아지면 sqrt(limit) 만큼씩 키웁니다. 한도의 절반도 쓰지 않는 동안에는 키우지 않습니다.
+ * 5xx 로 끝난 요청은 RTT 샘플로 쓰지 않고 한도를 10% 줄입니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double longDecay;
+    private final double priorityReserve;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.rttTolerance = properties.rttTolerance();
+        this.smoothing = properties.smoothing();
+        this.longDecay = 2.0 / (properties.longWindow() + 1);
+        this.priorityReserve = properties.priorityReserve();
+        this.limit = properties.initialLimit();
+    }
+
+    /**
+     * @param priority critical 요청이면 true - 예약분까지 포함한 전체 한도를 사용
+     * @return false 이면 즉시 거절해야 함
+     */
+    public boolean tryAcquire(boolean priority) {
+        int allowed = priority ? (int) limit : Math.max(1, (int) (limit * (1 - priorityReserve)));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param rttNanos 요청 처리 시간
+     * @param dropped  5xx 등 과부하로 실패한 요청이면 true
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inflightAtRelease = inflight.getAndDecrement();
+        synchronized (this) {
+            if (dropped) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                return;
+            }
+            if (longRttNanos == 0) {
+                shortRttNanos = rttNanos;
+                longRttNanos = rttNanos;
+                return;
+            }
+            shortRttNanos = shortRttNanos * (1 - smoothing) + rttNanos * smoothing;
+            longRttNanos = longRttNanos * (1 - longDecay) + rttNanos * longDecay;
+
+            // 부하가 오래 지속되면 기준선도 따라 올라가므로, 단기 RTT 가 기준선의 2배를 넘으면 기준선을 끌어내려 회복을 빠르게 합니다.
+            if (longRttNanos / shortRttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+
+            // 한도의 절반도 쓰지 않는 중에는 지연 정보가 부족하므로 한도를 키우지 않습니다.
+            if (inflightAtRelease < limit / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+            limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        }
+    }
+
+    /**
+     * 처리 결과가 이 한도와 무관한 요청(다른 구획에서 거절 등)은 RTT 샘플이나 감소 신호로 쓰지 않고 자리만 돌려줍니다.
+     */
+    public void releaseWithoutSample() {
+        inflight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
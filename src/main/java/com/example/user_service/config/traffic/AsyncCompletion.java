@@ -0,0 +1,44 @@
+package com.example.user_service.config.traffic;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 비동기로 넘어간 요청(StreamingResponseBody, DeferredResult 등)의 자원 반환을 요청이 실제로 끝날 때로 미룹니다.
+ * 필터 체인은 비동기 처리가 시작되면 바로 돌아오므로, 그 시점에 구획/한도 자리를 돌려주면 긴 작업이 동시 실행 수에서 빠집니다.
+ */
+final class AsyncCompletion {
+
+    private AsyncCompletion() {
+    }
+
+    /**
+     * @return 비동기 처리가 시작되어 callback 을 완료 시점에 실행하도록 등록했으면 true, 동기 요청이면 false (호출 측이 바로 반환)
+     */
+    static boolean deferUntilComplete(HttpServletRequest request, Runnable callback) {
+        if (!request.isAsyncStarted()) {
+            return false;
+        }
+        // 시간 초과 / 오류도 마지막에는 onComplete 가 한 번 호출되므로 여기서만 반환합니다.
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                callback.run();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+        return true;
+    }
+}
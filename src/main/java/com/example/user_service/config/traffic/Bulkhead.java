@@ -0,0 +1,51 @@
+package com.example.user_service.config.traffic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트래픽 분류 하나의 동시 실행 구획.
+ * 메트릭: bulkhead.calls{class, result}, bulkhead.concurrent.calls{class}, bulkhead.max.concurrent.calls{class},
+ * bulkhead.saturation{class} (사용 중 / 최대, 1 이면 포화)
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final Counter permitted;
+    private final Counter rejected;
+
+    public Bulkhead(TrafficClass trafficClass, BulkheadProperties.Compartment compartment, MeterRegistry meterRegistry) {
+        this.maxConcurrent = compartment.maxConcurrent();
+        this.maxWaitNanos = compartment.maxWait().toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        String tag = trafficClass.tag();
+        this.permitted = Counter.builder("bulkhead.calls").tag("class", tag).tag("result", "permitted").register(meterRegistry);
+        this.rejected = Counter.builder("bulkhead.calls").tag("class", tag).tag("result", "rejected").register(meterRegistry);
+        Gauge.builder("bulkhead.concurrent.calls", this, Bulkhead::inUse).tag("class", tag).register(meterRegistry);
+        Gauge.builder("bulkhead.max.concurrent.calls", this, b -> b.maxConcurrent).tag("class", tag).register(meterRegistry);
+        Gauge.builder("bulkhead.saturation", this, b -> (double) b.inUse() / b.maxConcurrent).tag("class", tag).register(meterRegistry);
+    }
+
+    public boolean tryAcquire() throws InterruptedException {
+        boolean acquired = maxWaitNanos > 0
+                ? permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)
+                : permits.tryAcquire();
+        (acquired ? permitted : rejected).increment();
+        return acquired;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int inUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.user_service.config.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 트래픽 분류(login / api / internal)별 동시 실행 구획과 선택적 내부 전용 커넥션 풀.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+    // Spring Security 필터 체인(-100) 보다 앞에서 실행
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(BulkheadProperties properties, MeterRegistry meterRegistry,
+                                                                 ObjectMapper objectMapper) {
+        Map<TrafficClass, Bulkhead> bulkheads = new EnumMap<>(TrafficClass.class);
+        if (properties.enabled()) {
+            for (TrafficClass trafficClass : TrafficClass.values()) {
+                bulkheads.put(trafficClass, new Bulkhead(trafficClass, properties.of(trafficClass), meterRegistry));
+            }
+        }
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(new BulkheadFilter(bulkheads, objectMapper));
+        registration.setOrder(-110);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bulkhead.internal-pool.enabled", havingValue = "true")
+    public static InternalConnectionPoolPostProcessor internalConnectionPoolPostProcessor() {
+        return new InternalConnectionPoolPostProcessor();
+    }
+}
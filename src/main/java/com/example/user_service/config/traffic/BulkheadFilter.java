@@ -0,0 +1,81 @@
+package com.example.user_service.config.traffic;
+
+import com.example.user_service.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 요청을 트래픽 분류별 구획에 배정하고, 구획이 가득 차면 503 + Retry-After 로 바로 돌려보냅니다.
+ * Spring Security(LoginFilter) 보다 앞에서 실행되어 로그인 폭주가 BCrypt 까지 가기 전에 차단됩니다.
+ * 구획이 없거나 분류되지 않는 요청도 현재 분류({@link TrafficClass#current()})는 기록합니다.
+ * 비동기로 넘어간 요청(일괄 등록 스트림 등)은 응답이 끝날 때까지 구획 자리를 유지합니다.
+ */
+@Slf4j
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    /**
+     * 구획 포화로 거절한 요청에 남기는 속성. 바깥의 {@link LoadSheddingFilter} 가 이 503 을 과부하(지연 증가) 신호로 보지 않도록 합니다.
+     */
+    static final String REJECTED_ATTRIBUTE = BulkheadFilter.class.getName() + ".REJECTED";
+
+    private final Map<TrafficClass, Bulkhead> bulkheads;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param bulkheads 비어 있으면 분류만 기록하고 제한하지 않음
+     */
+    public BulkheadFilter(Map<TrafficClass, Bulkhead> bulkheads, ObjectMapper objectMapper) {
+        this.bulkheads = bulkheads;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TrafficClass trafficClass = TrafficClass.of(request);
+        Bulkhead bulkhead = trafficClass == null ? null : bulkheads.get(trafficClass);
+
+        boolean acquired = false;
+        try {
+            if (bulkhead != null) {
+                acquired = bulkhead.tryAcquire();
+                if (!acquired) {
+                    log.debug("벌크헤드 포화로 요청 거절. class: {}, uri: {}", trafficClass.tag(), request.getRequestURI());
+                    reject(request, response);
+                    return;
+                }
+            }
+            TrafficClass.bind(trafficClass);
+            filterChain.doFilter(request, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(request, response);
+        } finally {
+            TrafficClass.clear();
+            if (acquired && !AsyncCompletion.deferUntilComplete(request, bulkhead::release)) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        request.setAttribute(REJECTED_ATTRIBUTE, Boolean.TRUE);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(new ErrorResponse("요청이 많아 잠시 후 다시 시도해 주세요.")));
+    }
+}
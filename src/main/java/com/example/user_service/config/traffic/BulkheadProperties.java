@@ -0,0 +1,63 @@
+package com.example.user_service.config.traffic;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * bulkhead.* 설정.
+ *
+ * @param enabled      트래픽 분류별 동시 실행 제한 사용 여부
+ * @param login        /login, /reissue 구획
+ * @param api          /api/** 구획
+ * @param internal     /internal/** 구획
+ * @param internalPool /internal/** 전용 커넥션 풀
+ */
+@ConfigurationProperties("bulkhead")
+public record BulkheadProperties(
+        boolean enabled,
+        Compartment login,
+        Compartment api,
+        Compartment internal,
+        InternalPool internalPool
+) {
+
+    public BulkheadProperties {
+        if (login == null) {
+            login = new Compartment(40, Duration.ZERO);
+        }
+        if (api == null) {
+            api = new Compartment(80, Duration.ofMillis(50));
+        }
+        if (internal == null) {
+            internal = new Compartment(60, Duration.ofMillis(200));
+        }
+        if (internalPool == null) {
+            internalPool = new InternalPool(false, 5, 2, Duration.ofMillis(500));
+        }
+    }
+
+    public Compartment of(TrafficClass trafficClass) {
+        return switch (trafficClass) {
+            case LOGIN -> login;
+            case API -> api;
+            case INTERNAL -> internal;
+        };
+    }
+
+    /**
+     * @param maxConcurrent 동시에 처리할 수 있는 최대 요청 수
+     * @param maxWait       자리가 없을 때 기다리는 최대 시간 (0 이면 즉시 거절)
+     */
+    public record Compartment(int maxConcurrent, Duration maxWait) {
+    }
+
+    /**
+     * @param enabled           /internal/** 요청이 공용 Hikari 풀 대신 전용 풀을 쓰도록 할지 여부
+     * @param maximumPoolSize   전용 풀 최대 커넥션 수
+     * @param minimumIdle       전용 풀 최소 유휴 커넥션 수
+     * @param connectionTimeout 전용 풀 커넥션 대기 시간
+     */
+    public record InternalPool(boolean enabled, int maximumPoolSize, int minimumIdle, Duration connectionTimeout) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.user_service.config.traffic;
+
+import com.example.user_service.config.datasource.DataSourceType;
+import com.example.user_service.config.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * bulkhead.internal-pool.enabled=true 일 때 "dataSource" 빈을 {@link TrafficClassRoutingDataSource} 로 감싸
+ * /internal/** 요청에는 별도 Hikari 풀("internal")을 사용하게 합니다.
+ * 전용 풀은 spring.datasource 의 접속 정보(Primary)와 spring.datasource.hikari 설정(드라이버 속성, 타임아웃 등)을 그대로 쓰고,
+ * 크기와 커넥션 대기 시간만 bulkhead.internal-pool 값으로 덮어씁니다. 메트릭은 hikaricp_*{pool="internal"} 로 노출됩니다.
+ * spring.datasource.routing.enabled=true 이면 Replica 쪽에도 전용 풀("internal-replica")을 두고 공용 라우팅과 같은 규칙
+ * (readOnly -> Replica, 같은 사용자의 쓰기 직후 -> Primary)으로 나눠, 내부 조회가 Replica 대신 Primary 로 몰리지 않게 합니다.
+ */
+@Slf4j
+public class InternalConnectionPoolPostProcessor implements BeanPostProcessor, EnvironmentAware, DisposableBean {
+
+    private Environment environment;
+    private HikariDataSource internalPool;
+    private HikariDataSource internalReplicaPool;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource shared)) {
+            return bean;
+        }
+        Binder binder = Binder.get(environment);
+        BulkheadProperties.InternalPool properties = binder.bind("bulkhead", BulkheadProperties.class)
+                                                           .orElseGet(() -> new BulkheadProperties(false, null, null, null, null))
+                                                           .internalPool();
+
+        internalPool = new HikariDataSource();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(internalPool));
+        internalPool.setJdbcUrl(environment.getRequiredProperty("spring.datasource.url"));
+        internalPool.setUsername(environment.getProperty("spring.datasource.username"));
+        internalPool.setPassword(environment.getProperty("spring.datasource.password"));
+        internalPool.setDriverClassName(environment.getProperty("spring.datasource.driver-class-name"));
+        configure(internalPool, "internal", properties);
+
+        DataSource internalTarget = internalPool;
+        if (environment.getProperty("spring.datasource.routing.enabled", Boolean.class, false)) {
+            internalReplicaPool = new HikariDataSource();
+            binder.bind("spring.datasource.replica", Bindable.ofInstance(internalReplicaPool));
+            internalReplicaPool.setReadOnly(true);
+            configure(internalReplicaPool, "internal-replica", properties);
+
+            ReplicationRoutingDataSource replicationRouting = new ReplicationRoutingDataSource(
+                    environment.getProperty("spring.datasource.routing.sticky-window", Duration.class, Duration.ofSeconds(2)));
+            replicationRouting.setTargetDataSources(Map.of(
+                    DataSourceType.PRIMARY, internalPool,
+                    DataSourceType.REPLICA, internalReplicaPool
+            ));
+            replicationRouting.setDefaultTargetDataSource(internalPool);
+            replicationRouting.afterPropertiesSet();
+            // 공용 dataSource 와 마찬가지로 첫 쿼리 시점에 readOnly 여부를 보고 풀을 고릅니다.
+            internalTarget = new LazyConnectionDataSourceProxy(replicationRouting);
+        }
+
+        TrafficClassRoutingDataSource routing = new TrafficClassRoutingDataSource();
+        routing.setTargetDataSources(Map.of(TrafficClass.INTERNAL, internalTarget));
+        routing.setDefaultTargetDataSource(shared);
+        routing.afterPropertiesSet();
+
+        log.info("내부 API 전용 커넥션 풀 사용. maximumPoolSize: {}, replica: {}", properties.maximumPoolSize(), internalReplicaPool != null);
+        return routing;
+    }
+
+    private static void configure(HikariDataSource pool, String poolName, BulkheadProperties.InternalPool properties) {
+        pool.setPoolName(poolName);
+        pool.setMaximumPoolSize(properties.maximumPoolSize());
+        pool.setMinimumIdle(properties.minimumIdle());
+        pool.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        // 스프링 관리 빈이 아니므로 Boot 의 Hikari 메트릭 바인딩 대상이 아님 -> 전역 레지스트리에 직접 등록
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+    }
+
+    @Override
+    public void destroy() {
+        if (internalPool != null) {
+            internalPool.close();
+        }
+        if (internalReplicaPool != null) {
+            internalReplicaPool.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.user_service.config.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+@ConditionalOnProperty(name = "load-shedding.enabled", havingValue = "true")
+public class LoadSheddingConfig {
+
+    // 벌크헤드(-110) 보다 앞에서 실행 - 분류별 한도를 먼저 확인합니다. 벌크헤드의 503 은 한도 계산에 반영하지 않습니다.
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(LoadSheddingProperties properties,
+                                                                         MeterRegistry meterRegistry,
+                                                                         ObjectMapper objectMapper) {
+        Map<TrafficClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(TrafficClass.class);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            limiters.put(trafficClass, new AdaptiveConcurrencyLimiter(properties));
+        }
+        FilterRegistrationBean<LoadSheddingFilter> registration =
+                new FilterRegistrationBean<>(new LoadSheddingFilter(limiters, meterRegistry, objectMapper));
+        registration.setOrder(-120);
+        return registration;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.user_service.config.traffic;
+
+import com.example.user_service.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 적응형 동시 실행 한도({@link AdaptiveConcurrencyLimiter})를 넘는 요청을 대기열에 쌓지 않고 503 + Retry-After 로 바로 돌려보냅니다.
+ * 한도는 트래픽 분류({@link TrafficClass})마다 따로 둡니다. BCrypt 로 수백 ms 걸리는 로그인과 1ms 안팎의 내부 조회가
+ * 같은 RTT 기준선을 쓰면 트래픽 비율 변화만으로도 지연이 늘어난 것처럼 보이고, 로그인 폭주가 내부 API 한도까지 끌어내리기 때문입니다.
+ * X-Request-Priority: critical 요청은 예약분까지 쓸 수 있어 같은 분류의 일반 요청보다 늦게 거절됩니다.
+ * 내부 API 는 분류별 한도로 이미 다른 트래픽과 분리되므로, 내부 요청도 critical 이 아니면 예약분을 쓰지 않습니다.
+ * 벌크헤드({@link BulkheadFilter})가 구획 포화로 거절한 503 은 지연 신호가 아니므로 한도 계산에서 뺍니다.
+ * 비동기로 넘어간 요청은 응답이 끝날 때까지 자리를 유지하되, 처리 시간이 요청 지연이 아니라 작업 크기에 비례하므로 RTT 샘플로 쓰지 않습니다.
+ * 메트릭: load.shedding.requests{class, priority, decision}, load.shedding.limit{class}, load.shedding.inflight{class}
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    static final String PRIORITY_HEADER = "X-Request-Priority";
+
+    private final Map<TrafficClass, AdaptiveConcurrencyLimiter> limiters;
+    private final Map<TrafficClass, Counter[]> counters = new EnumMap<>(TrafficClass.class);
+    private final ObjectMapper objectMapper;
+
+    public LoadSheddingFilter(Map<TrafficClass, AdaptiveConcurrencyLimiter> limiters, MeterRegistry meterRegistry,
+                              ObjectMapper objectMapper) {
+        this.limiters = limiters;
+        this.objectMapper = objectMapper;
+        limiters.forEach((trafficClass, limiter) -> {
+            // [accepted normal, accepted critical, rejected normal, rejected critical]
+            counters.put(trafficClass, new Counter[]{
+                    counter(meterRegistry, trafficClass, "normal", "accepted"),
+                    counter(meterRegistry, trafficClass, "critical", "accepted"),
+                    counter(meterRegistry, trafficClass, "normal", "rejected"),
+                    counter(meterRegistry, trafficClass, "critical", "rejected")
+            });
+            Gauge.builder("load.shedding.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                 .tag("class", trafficClass.tag())
+                 .register(meterRegistry);
+            Gauge.builder("load.shedding.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                 .tag("class", trafficClass.tag())
+                 .register(meterRegistry);
+        });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, TrafficClass trafficClass, String priority, String decision) {
+        return Counter.builder("load.shedding.requests")
+                      .tag("class", trafficClass.tag())
+                      .tag("priority", priority)
+                      .tag("decision", decision)
+                      .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        TrafficClass trafficClass = TrafficClass.of(request);
+        return trafficClass == null || !limiters.containsKey(trafficClass);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TrafficClass trafficClass = TrafficClass.of(request);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(trafficClass);
+        Counter[] classCounters = counters.get(trafficClass);
+        boolean priority = "critical".equalsIgnoreCase(request.getHeader(PRIORITY_HEADER));
+
+        if (!limiter.tryAcquire(priority)) {
+            classCounters[priority ? 3 : 2].increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(objectMapper.writeValueAsString(
+                    new ErrorResponse("서버 부하로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.")));
+            return;
+        }
+        classCounters[priority ? 1 : 0].increment();
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            if (request.getAttribute(BulkheadFilter.REJECTED_ATTRIBUTE) != null) {
+                limiter.releaseWithoutSample();
+            } else if (!AsyncCompletion.deferUntilComplete(request, limiter::releaseWithoutSample)) {
+                limiter.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.user_service.config.traffic;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * load-shedding.* 설정.
+ *
+ * @param enabled         적응형 동시 실행 제한 사용 여부
+ * @param initialLimit    기동 직후 동시 실행 한도
+ * @param minLimit        한도 하한
+ * @param maxLimit        한도 상한
+ * @param rttTolerance    장기 RTT 대비 단기 RTT 가 이 배수까지 늘어나는 것은 정상으로 봄
+ * @param smoothing       새 한도를 반영하는 비율 (0~1)
+ * @param longWindow      장기 RTT 지수 이동 평균의 샘플 수
+ * @param priorityReserve critical 요청 전용으로 남겨 두는 한도 비율 (일반 요청은 limit * (1 - reserve) 까지만)
+ */
+@ConfigurationProperties("load-shedding")
+public record LoadSheddingProperties(
+        boolean enabled,
+        Integer initialLimit,
+        Integer minLimit,
+        Integer maxLimit,
+        Double rttTolerance,
+        Double smoothing,
+        Integer longWindow,
+        Double priorityReserve
+) {
+
+    public LoadSheddingProperties {
+        if (initialLimit == null) {
+            initialLimit = 40;
+        }
+        if (minLimit == null) {
+            minLimit = 10;
+        }
+        if (maxLimit == null) {
+            maxLimit = 200;
+        }
+        if (rttTolerance == null) {
+            rttTolerance = 1.5;
+        }
+        if (smoothing == null) {
+            smoothing = 0.2;
+        }
+        if (longWindow == null) {
+            longWindow = 600;
+        }
+        if (priorityReserve == null) {
+            priorityReserve = 0.2;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.user_service.config.traffic;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 벌크헤드 / 부하 차단 단위가 되는 트래픽 분류.
+ * 현재 요청의 분류는 BulkheadFilter 가 요청 스레드에 기록하며, 커넥션 풀 라우팅 등 하위 계층에서 {@link #current()} 로 조회합니다.
+ * 요청 스레드 밖(MVC 비동기 스레드 등)에서 이어지는 작업은 {@link #bindToCurrentThread()} 로 직접 기록해야 합니다.
+ */
+public enum TrafficClass {
+
+    /** /login, /reissue, /logout - BCrypt / JWT 서명 비용이 큰 인증 요청 */
+    LOGIN("login"),
+    /** /api/** - 외부 사용자 CRUD */
+    API("api"),
+    /** /internal/** - 결제/배차 서비스가 호출하는 내부 조회 */
+    INTERNAL("internal");
+
+    private static final ThreadLocal<TrafficClass> CURRENT = new ThreadLocal<>();
+
+    private final String tag;
+
+    TrafficClass(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * @return 분류 대상이 아니면 (actuator 등) null
+     */
+    public static TrafficClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/login") || path.equals("/reissue") || path.equals("/logout")) {
+            return LOGIN;
+        }
+        if (path.startsWith("/internal/")) {
+            return INTERNAL;
+        }
+        if (path.startsWith("/api/")) {
+            return API;
+        }
+        return null;
+    }
+
+    public static TrafficClass current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 이 분류를 기록합니다. 반환값을 닫으면 이전 분류로 돌아갑니다.
+     */
+    public Scope bindToCurrentThread() {
+        TrafficClass previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    static void bind(TrafficClass trafficClass) {
+        CURRENT.set(trafficClass);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.user_service.config.traffic;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * /internal/** 요청의 커넥션은 전용 풀에서, 나머지는 기존(공용) DataSource 에서 가져옵니다.
+ * 공용 풀이 로그인/외부 CRUD 로 고갈되어도 내부 조회는 커넥션을 기다리지 않습니다.
+ */
+public class TrafficClassRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TrafficClass.current() == TrafficClass.INTERNAL ? TrafficClass.INTERNAL : null;
+    }
+}
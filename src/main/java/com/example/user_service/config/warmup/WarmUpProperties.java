@@ -0,0 +1,41 @@
+package com.example.user_service.config.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * warmup.* 설정. 각 단계의 반복 횟수와 전체 시간 상한.
+ */
+@ConfigurationProperties("warmup")
+public record WarmUpProperties(
+        boolean enabled,
+        Duration maxDuration,
+        Integer jwtIterations,
+        Integer jsonIterations,
+        Integer bcryptIterations,
+        Integer repositoryIterations,
+        Integer httpIterations
+) {
+
+    public WarmUpProperties {
+        if (maxDuration == null) {
+            maxDuration = Duration.ofSeconds(30);
+        }
+        if (jwtIterations == null) {
+            jwtIterations = 5_000;
+        }
+        if (jsonIterations == null) {
+            jsonIterations = 5_000;
+        }
+        if (bcryptIterations == null) {
+            bcryptIterations = 20;
+        }
+        if (repositoryIterations == null) {
+            repositoryIterations = 500;
+        }
+        if (httpIterations == null) {
+            httpIterations = 300;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.user_service.config.warmup;
+
+import com.example.user_service.config.securiy.jwt.JWTUtil;
+import com.example.user_service.dto.request.UserCreateRequest;
+import com.example.user_service.dto.response.InternalUserResponse;
+import com.example.user_service.dto.response.UserInfoForPaymentResponse;
+import com.example.user_service.entity.PaymentMethod;
+import com.example.user_service.entity.User;
+import com.example.user_service.repository.PaymentMethodRepository;
+import com.example.user_service.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * 트래픽을 받기 전에 JWT / BCrypt / JSON / 리포지토리 / HTTP 경로를 합성 요청으로 데우고 커넥션 풀을 채웁니다.
+ * ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되므로 준비 전에 실행됩니다.
+ * Eureka 는 EUREKA_INITIAL_STATUS=STARTING 으로 등록해 두고, 워밍업이 끝나면 UP 으로 바꿉니다.
+ * DB 작업은 조회이거나 롤백되는 트랜잭션 안에서만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final WarmUpProperties properties;
+    private final JWTUtil jwtUtil;
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final PaymentMethodRepository paymentMethodRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectProvider<DataSource> dataSources;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final ApplicationContext applicationContext;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long deadline = System.nanoTime() + properties.maxDuration().toNanos();
+        Timer.Sample total = Timer.start(meterRegistry);
+        try {
+            fillConnectionPools();
+            stage("jwt", properties.jwtIterations(), deadline, i -> {
+                String token = jwtUtil.createJwt("access", UUID.randomUUID().toString(), "ROLE_USER", JWTUtil.ACCESS_TOKEN_EXPIRED_MS);
+                jwtUtil.isExpired(token);
+                jwtUtil.getCategory(token);
+                jwtUtil.getUserId(token);
+            });
+            stage("json", properties.jsonIterations(), deadline, i -> roundTripJson(i));
+            stage("bcrypt", properties.bcryptIterations(), deadline, i -> {
+                String hash = bCryptPasswordEncoder.encode("warmup-password-" + i);
+                bCryptPasswordEncoder.matches("warmup-password-" + i, hash);
+            });
+            stage("repository", properties.repositoryIterations(), deadline, i -> exerciseRepositories(i));
+            stage("http", properties.httpIterations(), deadline, httpStage());
+        } catch (RuntimeException e) {
+            log.warn("워밍업 중 오류가 발생했지만 기동을 계속합니다.", e);
+        } finally {
+            long elapsed = total.stop(Timer.builder("warmup.duration")
+                                           .description("Total JIT warm-up time before readiness")
+                                           .tag("stage", "total")
+                                           .register(meterRegistry));
+            markUp();
+            log.info("워밍업 완료: {} ms", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    // 단계별로 처음/마지막 10% 반복의 평균 지연을 남겨 JIT 효과를 비교할 수 있게 합니다.
+    private void stage(String name, int iterations, long deadline, IntConsumer action) {
+        long[] samples = new long[iterations];
+        int completed = 0;
+        long stageStart = System.nanoTime();
+        for (; completed < iterations && System.nanoTime() < deadline; completed++) {
+            long start = System.nanoTime();
+            action.accept(completed);
+            samples[completed] = System.nanoTime() - start;
+        }
+        long stageElapsed = System.nanoTime() - stageStart;
+        Timer.builder("warmup.duration")
+             .tag("stage", name)
+             .register(meterRegistry)
+             .record(stageElapsed, TimeUnit.NANOSECONDS);
+
+        int window = Math.max(1, completed / 10);
+        double initialMs = averageMillis(samples, 0, Math.min(window, completed));
+        double finalMs = averageMillis(samples, Math.max(0, completed - window), completed);
+        latencyGauge(name, "initial", initialMs);
+        latencyGauge(name, "final", finalMs);
+        log.info("워밍업 [{}] {}/{} 회, {} ms, 초기 평균 {} ms -> 마지막 평균 {} ms",
+                 name, completed, iterations, TimeUnit.NANOSECONDS.toMillis(stageElapsed),
+                 String.format("%.3f", initialMs), String.format("%.3f", finalMs));
+    }
+
+    private void latencyGauge(String stage, String phase, double valueMs) {
+        Gauge.builder("warmup.stage.latency", () -> valueMs)
+             .description("Mean per-iteration latency of the first/last 10% of warm-up iterations")
+             .baseUnit("milliseconds")
+             .tag("stage", stage)
+             .tag("phase", phase)
+             .register(meterRegistry);
+    }
+
+    private double averageMillis(long[] samples, int from, int to) {
+        if (to <= from) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += samples[i];
+        }
+        return sum / (double) (to - from) / 1_000_000.0;
+    }
+
+    private void roundTripJson(int i) {
+        try {
+            String id = UUID.randomUUID().toString();
+            String user = objectMapper.writeValueAsString(new InternalUserResponse(id, "warmup"));
+            objectMapper.readValue(user, InternalUserResponse.class);
+            String payment = objectMapper.writeValueAsString(
+                    new UserInfoForPaymentResponse(id, "warmup", "warmup@example.com", "pm-" + id, "billing-" + i));
+            objectMapper.readValue(payment, UserInfoForPaymentResponse.class);
+            String request = objectMapper.writeValueAsString(
+                    new UserCreateRequest("warmup" + i + "@example.com", "password123", "warmup", "010" + i));
+            objectMapper.readValue(request, UserCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 조회는 존재하지 않는 임의 키로, 쓰기는 롤백되는 트랜잭션 안에서만 실행합니다.
+    private void exerciseRepositories(int i) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            String key = UUID.randomUUID().toString();
+            userRepository.findByUserId(key);
+            userRepository.existsByEmail(key + "@warmup.invalid");
+            paymentMethodRepository.findByUserUserIdAndIsDefaultTrue(key);
+        });
+
+        if (i % 10 != 0) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            String key = UUID.randomUUID().toString();
+            User user = userRepository.save(User.builder()
+                                                .email(key + "@warmup.invalid")
+                                                .password("warmup")
+                                                .username("warmup")
+                                                .role("ROLE_USER")
+                                                .phoneNumber("w-" + key.substring(0, 12))
+                                                .build());
+            paymentMethodRepository.save(PaymentMethod.builder()
+                                                      .user(user)
+                                                      .billingKey("warmup-" + key)
+                                                      .cardIssuer("Visa")
+                                                      .expiryDate("12/99")
+                                                      .cardNumberMasked("4111-XXXX-XXXX-1111")
+                                                      .isDefault(true)
+                                                      .build());
+            userRepository.flush();
+            paymentMethodRepository.findByUserUserIdAndIsDefaultTrue(user.getUserId());
+            status.setRollbackOnly();
+        });
+    }
+
+    private IntConsumer httpStage() {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)) {
+            return i -> { };
+        }
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        String baseUrl = "http://localhost:" + webContext.getWebServer().getPort();
+        return i -> {
+            String path = (i % 2 == 0)
+                    ? "/internal/api/users/" + UUID.randomUUID()
+                    : "/internal/api/users/" + UUID.randomUUID() + "/payment-methods/default";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                             .timeout(Duration.ofSeconds(5))
+                                             .GET()
+                                             .build();
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (java.io.IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    // 풀마다 minimumIdle 만큼 동시에 커넥션을 빌렸다 돌려줘 첫 요청이 커넥션 생성을 기다리지 않게 합니다.
+    private void fillConnectionPools() {
+        hikariPools().forEach(dataSource -> {
+            // minimumIdle 미설정(-1)이면 Hikari 와 같이 maximumPoolSize 를 사용
+            int minimumIdle = dataSource.getMinimumIdle() < 0 ? dataSource.getMaximumPoolSize() : dataSource.getMinimumIdle();
+            int target = Math.max(1, Math.min(minimumIdle, dataSource.getMaximumPoolSize()));
+            List<CompletableFuture<Connection>> borrowed = new ArrayList<>();
+            for (int i = 0; i < target; i++) {
+                borrowed.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return dataSource.getConnection();
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+            }
+            for (CompletableFuture<Connection> future : borrowed) {
+                try (Connection ignored = future.join()) {
+                    // 반납만 하면 풀에 유휴 커넥션으로 남습니다.
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            log.info("커넥션 풀 [{}] 에 {} 개의 커넥션을 미리 채웠습니다.", dataSource.getPoolName(), target);
+        });
+    }
+
+    // 라우팅 DataSource(내부 전용 풀 등)로 감싸진 Hikari 풀까지 펼쳐서 모읍니다.
+    private Stream<HikariDataSource> hikariPools() {
+        return dataSources.orderedStream()
+                          .flatMap(dataSource -> dataSource instanceof AbstractRoutingDataSource routing
+                                  ? Stream.concat(Stream.of(routing.getResolvedDefaultDataSource()),
+                                                  routing.getResolvedDataSources().values().stream())
+                                  : Stream.of(dataSource))
+                          .filter(HikariDataSource.class::isInstance)
+                          .map(HikariDataSource.class::cast)
+                          .distinct();
+    }
+
+    private void markUp() {
+        ApplicationInfoManager manager = applicationInfoManager.getIfAvailable();
+        if (manager != null) {
+            manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.user_service.controller;
+
+import com.example.user_service.config.securiy.revocation.TokenRevocationList;
+import com.example.user_service.dto.response.TokenRevocationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/internal/api/tokens")
+@RequiredArgsConstructor
+public class InternalTokenController {
+
+    private final TokenRevocationList tokenRevocationList;
+
+    /**
+     * 게이트웨이가 Access 토큰 서명/만료 검증 뒤 폐기 여부를 확인합니다.
+     *
+     * @param issuedAt 토큰 iat (epoch seconds)
+     */
+    @GetMapping("/revocation")
+    public ResponseEntity<TokenRevocationResponse> checkRevocation(@RequestParam(required = false) String jti,
+                                                                   @RequestParam String userId,
+                                                                   @RequestParam long issuedAt) {
+        boolean revoked = tokenRevocationList.isRevoked(jti, userId, issuedAt * 1000);
+        return ResponseEntity.ok(new TokenRevocationResponse(revoked));
+    }
+}
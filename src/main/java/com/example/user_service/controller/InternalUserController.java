@@ -1,16 +1,24 @@
 package com.example.user_service.controller;
 
+import com.example.user_service.config.jfr.InternalLookupEvent;
 import com.example.user_service.dto.request.UserCreateRequest;
 import com.example.user_service.dto.response.InternalUserResponse;
 import com.example.user_service.dto.response.UserCreateResponse;
 import com.example.user_service.dto.response.UserInfoForPaymentResponse;
 import com.example.user_service.service.PaymentMethodService;
+import com.example.user_service.service.UserBulkImportReader;
+import com.example.user_service.service.UserBulkImportService;
 import com.example.user_service.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/internal/api/users")
@@ -19,17 +27,24 @@ public class InternalUserController {
 
     private final UserService userService;
     private final PaymentMethodService paymentMethodService;
+    private final UserBulkImportService userBulkImportService;
 
     @GetMapping("/{userId}")
     public ResponseEntity<InternalUserResponse> getUserInfo(@PathVariable String userId) {
-        InternalUserResponse response = userService.getUserByUserId(userId);
-        return ResponseEntity.ok(response);
+        try {
+            return ResponseEntity.ok(userService.getUserByUserId(userId));
+        } finally {
+            InternalLookupEvent.lookupCompleted();
+        }
     }
 
     @GetMapping("/{userId}/payment-methods/default")
     public ResponseEntity<UserInfoForPaymentResponse> getUserInfoForPayment(@PathVariable String userId) {
-        UserInfoForPaymentResponse response = paymentMethodService.getDefaultPaymentMethod(userId);
-        return ResponseEntity.ok(response);
+        try {
+            return ResponseEntity.ok(paymentMethodService.getDefaultPaymentMethod(userId));
+        } finally {
+            InternalLookupEvent.lookupCompleted();
+        }
     }
 
     @PostMapping
@@ -38,4 +53,13 @@ public class InternalUserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // 요청 본문을 읽으면서 결과를 행마다 내보냅니다 (MVC 비동기 스레드에서 실행되어 Tomcat 워커를 잡고 있지 않음).
+    // 벌크헤드 / 부하 차단 자리는 스트림이 끝날 때까지 유지되고, DB 작업은 내부 전용 풀을 씁니다 (UserBulkImportService).
+    @PostMapping(path = "/bulk", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importUsers(HttpServletRequest request) throws IOException {
+        UserBulkImportReader reader = userBulkImportService.open(request.getInputStream(), MediaType.parseMediaType(request.getContentType()));
+        StreamingResponseBody body = output -> userBulkImportService.importUsers(reader, output);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
 }
\ No newline at end of file
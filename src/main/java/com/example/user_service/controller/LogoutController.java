@@ -0,0 +1,70 @@
+package com.example.user_service.controller;
+
+import com.example.user_service.config.securiy.jwt.JWTUtil;
+import com.example.user_service.config.securiy.revocation.TokenRevocationList;
+import com.example.user_service.service.RefreshTokenService;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class LogoutController {
+
+    private final JWTUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * Authorization 헤더의 Access 토큰을 만료 시각까지 폐기하고, refresh 쿠키의 토큰을 삭제합니다.
+     * 토큰이 없거나 이미 만료/위조된 경우에도 쿠키만 지우고 200 을 반환합니다.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
+        // 1. Access 토큰 폐기
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            String access = authorization.substring(7);
+            try {
+                String jti = jwtUtil.getJti(access);
+                if (jti != null) {
+                    tokenRevocationList.revokeToken(jti, jwtUtil.getExpiration(access).toInstant());
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("로그아웃 요청의 Access 토큰을 해석할 수 없어 폐기를 건너뜁니다: {}", e.getMessage());
+            }
+        }
+
+        // 2. Refresh 토큰 삭제
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookie.getName().equals("refresh")) {
+                    refreshTokenService.delete(cookie.getValue());
+                }
+            }
+        }
+
+        // 3. 쿠키 만료
+        ResponseCookie cookie = ResponseCookie.from("refresh", "")
+                                              .path("/")
+                                              .sameSite("Strict")
+                                              .httpOnly(true)
+                                              .secure(false)
+                                              .maxAge(0)
+                                              .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+}
@@ -1,8 +1,8 @@
 package com.example.user_service.controller;
 
+import com.example.user_service.config.jfr.ReissueEvent;
 import com.example.user_service.config.securiy.jwt.JWTUtil;
-import com.example.user_service.entity.RefreshToken;
-import com.example.user_service.repository.RefreshTokenRepository;
+import com.example.user_service.service.RefreshTokenService;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,17 +15,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Date;
-
 @RestController
 @RequiredArgsConstructor
 public class ReissueController {
 
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/reissue")
     public ResponseEntity<?> reissue(HttpServletRequest request, HttpServletResponse response) {
+        ReissueEvent event = ReissueEvent.start();
 
         // 1. 쿠키에서 Refresh Token 추출
         String refresh = null;
@@ -39,35 +38,52 @@ public class ReissueController {
         }
 
         if (refresh == null) {
+            event.finish("missing");
             return new ResponseEntity<>("refresh token null", HttpStatus.BAD_REQUEST);
         }
 
         // 2. 검증 (만료, 카테고리, DB 존재 여부)
+        long start = System.nanoTime();
         try {
             jwtUtil.isExpired(refresh);
         } catch (ExpiredJwtException e) {
+            event.finish("expired");
             return new ResponseEntity<>("refresh token expired", HttpStatus.BAD_REQUEST);
         }
 
         String category = jwtUtil.getCategory(refresh);
+        event.tokenVerification(System.nanoTime() - start);
         if (!category.equals("refresh")) {
+            event.finish("invalid_category");
             return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
         }
 
-        if (!refreshTokenRepository.existsByRefresh(refresh)) {
+        start = System.nanoTime();
+        boolean stored = refreshTokenService.exists(refresh);
+        event.tokenLookup(System.nanoTime() - start);
+        if (!stored) {
+            event.finish("not_found");
             return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
         }
 
         // 3. 새로운 토큰 생성
+        start = System.nanoTime();
         String userId = jwtUtil.getUserId(refresh);
         String role = jwtUtil.getRole(refresh);
 
-        String newAccess = jwtUtil.createJwt("access", userId, role, 600000L);
-        String newRefresh = jwtUtil.createJwt("refresh", userId, role, 86400000L);
+        String newAccess = jwtUtil.createJwt("access", userId, role, JWTUtil.ACCESS_TOKEN_EXPIRED_MS);
+        String newRefresh = jwtUtil.createJwt("refresh", userId, role, JWTUtil.REFRESH_TOKEN_EXPIRED_MS);
+        event.jwtSigning(System.nanoTime() - start);
 
         // 4. DB 업데이트 (기존 삭제 -> 새거 저장)
-        refreshTokenRepository.deleteByRefresh(refresh);
-        addRefreshEntity(userId, newRefresh, 86400000L);
+        start = System.nanoTime();
+        boolean rotated = refreshTokenService.rotate(refresh, userId, newRefresh, JWTUtil.REFRESH_TOKEN_EXPIRED_MS);
+        event.tokenPersistence(System.nanoTime() - start);
+        if (!rotated) {
+            // 같은 토큰으로 들어온 다른 재발급 요청이 먼저 교체함
+            event.finish("already_rotated");
+            return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
+        }
 
         // 5. 응답 설정
         response.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + newAccess);
@@ -83,12 +99,7 @@ public class ReissueController {
 
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
 
+        event.finish("reissued");
         return new ResponseEntity<>(HttpStatus.OK);
     }
-
-    private void addRefreshEntity(String userId, String refresh, Long expiredMs) {
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-        RefreshToken refreshToken = new RefreshToken(userId, refresh, date.toString());
-        refreshTokenRepository.save(refreshToken);
-    }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import com.example.user_service.dto.request.UserUpdateRequest;
 import com.example.user_service.dto.response.UserUpdateResponse;
 import com.example.user_service.dto.response.UserProfileResponse;
 import com.example.user_service.dto.request.UserPasswordChangeRequest;
+import com.example.user_service.dto.request.UserSearchRequest;
+import com.example.user_service.dto.response.UserSearchResponse;
 import com.example.user_service.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +42,19 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<UserSearchResponse> searchUsers(
+            @Valid @ModelAttribute UserSearchRequest request,
+            @RequestHeader(value = "X-Role", required = false) String role) {
+
+        if (!"ROLE_ADMIN".equals(role)) {
+            throw new AccessDeniedException("관리자만 사용자 목록을 조회할 수 있습니다.");
+        }
+
+        UserSearchResponse response = userService.searchUsers(request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(
             @PathVariable Long id,
@@ -77,4 +92,13 @@ public class UserController {
         userService.changePassword(id, request, authenticatedUserId);
         return ResponseEntity.ok().build();
     }
+
+    @DeleteMapping("/{id}/sessions")
+    public ResponseEntity<Void> revokeSessions(
+            @PathVariable Long id,
+            @RequestHeader("X-User-Id") String authenticatedUserId) {
+
+        userService.revokeSessions(id, authenticatedUserId);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.example.user_service.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+public record UserSearchRequest(
+        String emailPrefix,
+
+        String phonePrefix,
+
+        String role,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdFrom,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdTo,
+
+        // 이전 페이지의 마지막 id (keyset 커서)
+        Long cursor,
+
+        // 가입일 범위 검색일 때 이전 페이지의 마지막 createdAt (cursor 와 함께 keyset 커서)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime cursorCreatedAt,
+
+        @Min(value = 1, message = "size는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "size는 100 이하여야 합니다.")
+        Integer size
+) {
+    public static final int DEFAULT_SIZE = 20;
+
+    public int pageSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+
+    // 가입일 범위가 있으면 (created_at, id) 인덱스 순서대로 정렬해야 범위를 읽고 다시 정렬하지 않습니다.
+    public boolean sortsByCreatedAt() {
+        return createdFrom != null || createdTo != null;
+    }
+
+    // 가입일 순서와 id 순서는 다르므로 한쪽 커서만으로 이어 읽으면 행이 빠지거나 중복됩니다.
+    @AssertTrue(message = "가입일 범위 검색은 cursor 와 cursorCreatedAt 을 함께 보내야 합니다.")
+    public boolean isCursorComplete() {
+        return !sortsByCreatedAt() || (cursor == null) == (cursorCreatedAt == null);
+    }
+}
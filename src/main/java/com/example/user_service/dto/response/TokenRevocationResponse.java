@@ -0,0 +1,4 @@
+package com.example.user_service.dto.response;
+
+public record TokenRevocationResponse(boolean revoked) {
+}
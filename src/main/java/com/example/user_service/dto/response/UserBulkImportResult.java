@@ -0,0 +1,28 @@
+package com.example.user_service.dto.response;
+
+/**
+ * 일괄 등록 결과 한 줄 (application/x-ndjson 으로 행마다 하나씩 내려갑니다).
+ *
+ * @param line 입력 파일의 줄 번호 (CSV 헤더가 1)
+ */
+public record UserBulkImportResult(
+    long line,
+    Status status,
+    Long id,
+    String userId,
+    String email,
+    String message
+) {
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID, FAILED
+    }
+
+    public static UserBulkImportResult created(long line, Long id, String userId, String email) {
+        return new UserBulkImportResult(line, Status.CREATED, id, userId, email, null);
+    }
+
+    public static UserBulkImportResult rejected(long line, Status status, String email, String message) {
+        return new UserBulkImportResult(line, status, null, null, email, message);
+    }
+}
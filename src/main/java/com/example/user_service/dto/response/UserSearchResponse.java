@@ -0,0 +1,13 @@
+package com.example.user_service.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record UserSearchResponse(
+        List<UserSummaryResponse> users,
+        Long nextCursor,
+        // 가입일 범위 검색일 때만 채워집니다. 다음 요청의 cursorCreatedAt 으로 보냅니다.
+        LocalDateTime nextCursorCreatedAt,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,20 @@
+package com.example.user_service.dto.response;
+
+import com.example.user_service.entity.User;
+
+import java.time.LocalDateTime;
+
+public record UserSummaryResponse(
+        Long id,
+        String userId,
+        String email,
+        String username,
+        String phoneNumber,
+        String role,
+        LocalDateTime createdAt
+) {
+    public static UserSummaryResponse fromEntity(User user) {
+        return new UserSummaryResponse(user.getId(), user.getUserId(), user.getEmail(), user.getUsername(),
+                user.getPhoneNumber(), user.getRole(), user.getCreatedAt());
+    }
+}
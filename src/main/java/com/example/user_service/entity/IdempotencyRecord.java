@@ -0,0 +1,76 @@
+package com.example.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 로 처리된 첫 응답 (IdempotencyStore 의 DB 계층, idempotency.db-enabled=true 일 때만 사용).
+ * 키는 "메서드 + 경로 + 호출자 + Idempotency-Key" 의 SHA-256 입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord extends BaseTimeEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "record_key", length = 64)
+    private String recordKey;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(length = 1024)
+    private String location;
+
+    @Lob
+    private byte[] body;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 키를 직접 지정하므로 save() 가 merge(SELECT 후 INSERT) 대신 persist 로 바로 INSERT 하도록 새 엔티티임을 알립니다.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newRecord = true;
+
+    public IdempotencyRecord(String recordKey, String fingerprint, int status, String contentType, String location,
+                             byte[] body, LocalDateTime expiresAt) {
+        this.recordKey = recordKey;
+        this.fingerprint = fingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.location = location;
+        this.body = body;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return recordKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newRecord = false;
+    }
+}
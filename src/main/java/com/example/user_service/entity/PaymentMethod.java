@@ -5,6 +5,9 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.UUID;
 
@@ -12,12 +15,19 @@ import java.util.UUID;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "payment_method")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payment-method")
 public class PaymentMethod extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_method_seq")
+    @SequenceGenerator(name = "payment_method_seq", sequenceName = "payment_method_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private long version;
+
     @Column(nullable = false, updatable = false, unique = true)
     private String paymentMethodId;
 
@@ -25,7 +35,7 @@ public class PaymentMethod extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(name = "billing_key", nullable = false, length = 255)
+    @Column(name = "billing_key", nullable = false, updatable = false, length = 255)
     private String billingKey;
 
     @Column(name = "card_issuer", nullable = false, length = 50)
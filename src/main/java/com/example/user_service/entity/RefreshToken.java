@@ -4,25 +4,37 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_refresh_token_username", columnList = "username"))
 public class RefreshToken extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = 50)
     private Long id;
 
-    private String username;
+    // 기존 스키마와 맞추기 위해 컬럼 이름은 username 그대로 둡니다. 값은 사용자 ID 입니다.
+    @Column(name = "username")
+    private String userId;
 
     @Column(length = 500)
     private String refresh;
 
+    // 이전 버전 파드와 스키마를 맞추기 위해 남겨 둔 문자열 컬럼입니다. 만료 판단에는 expiresAt 을 씁니다.
     private String expiration;
 
-    public RefreshToken(String username, String refresh, String expiration) {
-        this.username = username;
+    // 컬럼 추가 전에 저장된 행은 null 입니다.
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public RefreshToken(String userId, String refresh, LocalDateTime expiresAt) {
+        this.userId = userId;
         this.refresh = refresh;
-        this.expiration = expiration;
+        this.expiration = expiresAt.toString();
+        this.expiresAt = expiresAt;
     }
 }
\ No newline at end of file
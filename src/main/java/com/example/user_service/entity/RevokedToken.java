@@ -0,0 +1,55 @@
+package com.example.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Access 토큰 폐기 목록 (TokenRevocationList 의 복제본 간 공유 계층).
+ * - JTI: 토큰 하나 (로그아웃). subject = jti
+ * - USER: 해당 사용자에게 revokedBefore 이전에 발급된 모든 토큰 (비밀번호 변경). subject = userId
+ * 대상 토큰이 모두 만료되는 시각(expiresAt)이 지나면 삭제됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_token_updated_at", columnList = "updated_at")
+})
+public class RevokedToken extends BaseTimeEntity {
+
+    public enum Type {
+        JTI,
+        USER
+    }
+
+    // "{type}:{subject}" - 같은 사용자를 다시 폐기하면 기존 행을 갱신합니다.
+    @Id
+    @Column(name = "revocation_key", length = 80)
+    private String revocationKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Type type;
+
+    @Column(nullable = false, length = 64)
+    private String subject;
+
+    @Column(name = "revoked_before", nullable = false)
+    private LocalDateTime revokedBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RevokedToken(Type type, String subject, LocalDateTime revokedBefore, LocalDateTime expiresAt) {
+        this.revocationKey = type + ":" + subject;
+        this.type = type;
+        this.subject = subject;
+        this.revokedBefore = revokedBefore;
+        this.expiresAt = expiresAt;
+    }
+}
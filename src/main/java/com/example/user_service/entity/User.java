@@ -5,21 +5,40 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_id", columnList = "role, id"),
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+})
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
+    // 낙관적 락: 동시 수정 시 나중 커밋이 409 로 실패하도록 합니다.
+    @Version
+    private long version;
+
+    @NaturalId
     @Column(nullable = false, updatable = false, unique = true)
     private String userId;
 
@@ -29,6 +48,8 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private String role;
 
+    // 카드 등록/삭제는 PaymentMethod 쪽 행만 바뀌므로 User 버전을 올리지 않습니다 (동시 프로필 수정이 409 가 되지 않도록).
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PaymentMethod> paymentMethods = new ArrayList<>();
 
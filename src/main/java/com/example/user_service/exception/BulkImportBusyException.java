@@ -0,0 +1,11 @@
+package com.example.user_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class BulkImportBusyException extends RuntimeException {
+    public BulkImportBusyException(String message) {
+        super(message);
+    }
+}
@@ -2,12 +2,45 @@ package com.example.user_service.repository;
 
 import com.example.user_service.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     Boolean existsByRefresh(String refresh);
 
+    /**
+     * expires_at 컬럼 추가 전에 저장된 행(null)은 JWT 자체 만료(24시간)에 맡기고 존재하는 것으로 봅니다.
+     */
+    @Query("SELECT COUNT(r) > 0 FROM RefreshToken r WHERE r.refresh = :refresh AND (r.expiresAt IS NULL OR r.expiresAt > :now)")
+    boolean existsUnexpired(@Param("refresh") String refresh, @Param("now") LocalDateTime now);
+
+    // 파생 deleteBy 는 읽은 뒤 지우므로 동시에 같은 토큰을 지우면 둘 다 성공으로 보입니다. 단일 DELETE 의 행 수로 한쪽만 성공하게 합니다.
     @Transactional
-    void deleteByRefresh(String refresh);
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.refresh = :refresh")
+    int deleteByRefresh(@Param("refresh") String refresh);
+
+    // 파생 deleteBy 는 엔티티를 읽어 한 건씩 지우므로, username(사용자 ID) 인덱스를 타는 단일 DELETE 로 처리합니다.
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") String userId);
+
+    /**
+     * 각 사용자의 최신 keep 개만 남기고 오래된 토큰을 지웁니다. 사용자가 여럿이어도 개수를 따로 세지 않고 DELETE 한 문장으로 처리하며,
+     * 사용자당 행 수가 keep + 배치 안의 새 토큰 수 이하로 유지되므로 정렬 비용은 무시할 수 있습니다.
+     * (MySQL 은 DELETE 대상 테이블을 서브쿼리에서 바로 읽을 수 없어 파생 테이블로 한 번 감쌉니다.)
+     * 같은 트랜잭션에서 저장한 토큰이 먼저 INSERT 되도록 flush 후 실행합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM refresh_token WHERE id IN ("
+            + "SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY username ORDER BY created_at DESC, id DESC) AS rn "
+            + "FROM refresh_token WHERE username IN (:userIds)) ranked WHERE rn > :keep)", nativeQuery = true)
+    int deleteOldestBeyond(@Param("userIds") Collection<String> userIds, @Param("keep") int keep);
 }
\ No newline at end of file
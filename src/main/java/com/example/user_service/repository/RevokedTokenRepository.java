@@ -0,0 +1,26 @@
+package com.example.user_service.repository;
+
+import com.example.user_service.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Transactional(readOnly = true)
+    List<RevokedToken> findAllByExpiresAtAfter(LocalDateTime now);
+
+    // 폴링용 증분 조회 - 같은 사용자를 다시 폐기하면 기존 행이 갱신되므로 생성 시각이 아닌 갱신 시각으로 찾습니다.
+    @Transactional(readOnly = true)
+    List<RevokedToken> findAllByUpdatedAtAfterAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,19 @@
+package com.example.user_service.repository;
+
+import com.example.user_service.dto.request.UserSearchRequest;
+import com.example.user_service.entity.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // userId(@NaturalId) 조회는 2차 캐시의 natural-id 영역을 거치도록 Session API 로 처리합니다.
+    @Transactional(readOnly = true)
+    Optional<User> findByUserId(String userId);
+
+    // id 내림차순 (가입일 범위가 있으면 createdAt, id 내림차순) keyset 페이지네이션. OFFSET 없이 cursor 이후 limit 건만 조회합니다.
+    @Transactional(readOnly = true)
+    List<User> search(UserSearchRequest condition, int limit);
+}
@@ -0,0 +1,89 @@
+package com.example.user_service.repository;
+
+import com.example.user_service.dto.request.UserSearchRequest;
+import com.example.user_service.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByUserId(String userId) {
+        return entityManager.unwrap(Session.class)
+                            .bySimpleNaturalId(User.class)
+                            .loadOptional(userId);
+    }
+
+    @Override
+    public List<User> search(UserSearchRequest condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> user = query.from(User.class);
+
+        // 값이 있는 조건만 where 절에 추가해야 옵티마이저가 인덱스를 고를 수 있습니다.
+        if (!condition.isCursorComplete()) {
+            throw new IllegalArgumentException("Date-range search requires both cursor and cursorCreatedAt");
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.sortsByCreatedAt() && condition.cursor() != null) {
+            // (created_at, id) < (cursorCreatedAt, cursor)
+            predicates.add(cb.or(
+                    cb.lessThan(user.<LocalDateTime>get("createdAt"), condition.cursorCreatedAt()),
+                    cb.and(cb.equal(user.get("createdAt"), condition.cursorCreatedAt()),
+                            cb.lessThan(user.get("id"), condition.cursor()))));
+        } else if (condition.cursor() != null) {
+            predicates.add(cb.lessThan(user.get("id"), condition.cursor()));
+        }
+        if (StringUtils.hasText(condition.emailPrefix())) {
+            predicates.add(cb.like(user.get("email"), prefixPattern(condition.emailPrefix()), LIKE_ESCAPE));
+        }
+        if (StringUtils.hasText(condition.phonePrefix())) {
+            predicates.add(cb.like(user.get("phoneNumber"), prefixPattern(condition.phonePrefix()), LIKE_ESCAPE));
+        }
+        if (StringUtils.hasText(condition.role())) {
+            predicates.add(cb.equal(user.get("role"), condition.role()));
+        }
+        if (condition.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(user.<LocalDateTime>get("createdAt"), condition.createdFrom()));
+        }
+        if (condition.createdTo() != null) {
+            predicates.add(cb.lessThan(user.<LocalDateTime>get("createdAt"), condition.createdTo()));
+        }
+
+        query.select(user)
+             .where(predicates.toArray(Predicate[]::new));
+        if (condition.sortsByCreatedAt()) {
+            query.orderBy(cb.desc(user.get("createdAt")), cb.desc(user.get("id")));
+        } else {
+            query.orderBy(cb.desc(user.get("id")));
+        }
+
+        return entityManager.createQuery(query)
+                            .setMaxResults(limit)
+                            .getResultList();
+    }
+
+    private String prefixPattern(String prefix) {
+        String escaped = prefix.replace("\\", "\\\\")
+                               .replace("%", "\\%")
+                               .replace("_", "\\_");
+        return escaped + "%";
+    }
+}
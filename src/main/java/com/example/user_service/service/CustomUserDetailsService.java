@@ -1,6 +1,7 @@
 package com.example.user_service.service;
 
 
+import com.example.user_service.config.jfr.LoginEvent;
 import com.example.user_service.config.securiy.CustomUserDetails;
 import com.example.user_service.entity.User;
 import com.example.user_service.exception.UserNotFoundException;
@@ -22,10 +23,12 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
+        long start = System.nanoTime();
         User user = userRepository.findByEmail(email)
                                   .orElseThrow(() -> {
                                       throw new UserNotFoundException("User not found with email: " + email);
                                   });
+        LoginEvent.addUserLookup(System.nanoTime() - start);
 
         return new CustomUserDetails(user);
     }
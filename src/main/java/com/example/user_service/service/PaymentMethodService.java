@@ -1,5 +1,7 @@
 package com.example.user_service.service;
 
+import com.example.user_service.config.logging.HotPathLogger;
+import com.example.user_service.config.logging.HotPathLoggerFactory;
 import com.example.user_service.dto.request.PaymentMethodRegisterRequest;
 import com.example.user_service.dto.response.PaymentMethodRegisterResponse;
 import com.example.user_service.dto.response.PaymentMethodResponse;
@@ -10,7 +12,6 @@ import com.example.user_service.exception.UserNotFoundException;
 import com.example.user_service.exception.PaymentMethodNotFoundException;
 import com.example.user_service.repository.PaymentMethodRepository;
 import com.example.user_service.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,13 +21,27 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PaymentMethodService {
 
     private final PaymentMethodRepository paymentMethodRepository;
     private final UserRepository userRepository;
 
+    // 내부 서비스가 결제마다 호출하는 조회 경로 (샘플링/초당 상한 적용)
+    private final HotPathLogger listLookupLog;
+    private final HotPathLogger defaultLookupLog;
+    // 실패는 성공 로그와 같이 샘플링되지 않도록 키를 나누고 초당 상한만 둡니다.
+    private final HotPathLogger defaultMissingLog;
+
+    public PaymentMethodService(PaymentMethodRepository paymentMethodRepository, UserRepository userRepository,
+                                HotPathLoggerFactory hotPathLoggerFactory) {
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.userRepository = userRepository;
+        this.listLookupLog = hotPathLoggerFactory.getLogger(log, "payment-list-lookup");
+        this.defaultLookupLog = hotPathLoggerFactory.getLogger(log, "payment-default-lookup");
+        this.defaultMissingLog = hotPathLoggerFactory.getLogger(log, "payment-default-missing");
+    }
+
     @Transactional
     public PaymentMethodRegisterResponse registerPaymentMethod(Long userId, PaymentMethodRegisterRequest request) {
         log.info("사용자 ID: {} 에 대한 결제 수단 등록을 시도합니다.", userId);
@@ -70,7 +85,7 @@ public class PaymentMethodService {
 
     @Transactional(readOnly = true)
     public List<PaymentMethodResponse> getPaymentMethods(Long userId) {
-        log.info("사용자 ID: {} 에 대한 결제 수단 목록 조회를 시도합니다.", userId);
+        listLookupLog.info("사용자 ID: {} 에 대한 결제 수단 목록 조회를 시도합니다.", userId);
 
         if (!userRepository.existsById(userId)) {
             log.warn("결제 수단 목록 조회 실패: ID {} 에 해당하는 사용자를 찾을 수 없습니다.", userId);
@@ -141,16 +156,14 @@ public class PaymentMethodService {
 
     @Transactional(readOnly = true)
     public UserInfoForPaymentResponse getDefaultPaymentMethod(String userId) {
-        log.info("사용자 ID: {} 의 기본 결제 수단 조회를 시도합니다.", userId);
-
         PaymentMethod paymentMethod = paymentMethodRepository.findByUserUserIdAndIsDefaultTrue(userId)
                 .orElseThrow(() -> {
-                    log.warn("기본 결제 수단 조회 실패: 사용자 ID {} 에 해당하는 기본 결제 수단이 없습니다.", userId);
+                    defaultMissingLog.warn("기본 결제 수단 조회 실패: 사용자 ID {} 에 해당하는 기본 결제 수단이 없습니다.", userId);
                     return new PaymentMethodNotFoundException("No default payment method found for user ID: " + userId);
                 });
 
         User user = paymentMethod.getUser();
-        log.info("사용자 ID: {} 의 기본 결제 수단 조회 성공. 결제 수단 ID: {}", userId, paymentMethod.getId());
+        defaultLookupLog.info("사용자 ID: {} 의 기본 결제 수단 조회 성공. 결제 수단 ID: {}", userId, paymentMethod.getId());
 
         return new UserInfoForPaymentResponse(user.getUserId(), user.getUsername(), user.getEmail(), paymentMethod.getPaymentMethodId(), paymentMethod.getBillingKey());
     }
@@ -0,0 +1,52 @@
+package com.example.user_service.service;
+
+import com.example.user_service.config.token.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Refresh 토큰 저장/조회/교체. 저장 위치는 {@link RefreshTokenStore} 구현(refresh-token.store.type)에 따릅니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    public void save(String userId, String refresh, long expiredMs) {
+        refreshTokenStore.save(userId, refresh, Instant.now().plusMillis(expiredMs));
+    }
+
+    public boolean exists(String refresh) {
+        return refreshTokenStore.exists(refresh);
+    }
+
+    public void delete(String refresh) {
+        refreshTokenStore.delete(refresh);
+    }
+
+    /**
+     * 사용자의 모든 Refresh 토큰을 삭제합니다. 호출 측 트랜잭션이 있으면 함께 커밋됩니다 (jpa 저장소).
+     *
+     * @return 삭제한 토큰 수
+     */
+    public int deleteAll(String userId) {
+        return refreshTokenStore.deleteAllByUserId(userId);
+    }
+
+    /**
+     * 기존 토큰을 지우고 새 토큰을 저장합니다 (RTR).
+     * 같은 토큰으로 동시에 재발급하면 기존 토큰을 실제로 지운 한 요청만 새 토큰을 저장합니다.
+     *
+     * @return 기존 토큰이 이미 지워져 교체하지 않았으면 false
+     */
+    public boolean rotate(String oldRefresh, String userId, String newRefresh, long expiredMs) {
+        if (!refreshTokenStore.delete(oldRefresh)) {
+            return false;
+        }
+        save(userId, newRefresh, expiredMs);
+        return true;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.user_service.service;
+
+import com.example.user_service.dto.request.UserCreateRequest;
+import com.example.user_service.exception.InvalidImportFileException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 일괄 등록 입력을 한 줄씩 읽습니다. 파일 전체를 메모리에 올리지 않습니다.
+ * - text/csv: 첫 줄은 헤더(email, password, username, phoneNumber - 순서 무관), 필드 안의 쉼표는 큰따옴표로 감쌉니다.
+ * - application/x-ndjson: 줄마다 {@link UserCreateRequest} JSON 객체 하나
+ * 빈 줄은 건너뛰고, 읽을 수 없는 줄은 오류 메시지를 담은 {@link Row} 로 돌려줍니다.
+ */
+public final class UserBulkImportReader implements Closeable {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final List<String> CSV_COLUMNS = List.of("email", "password", "username", "phonenumber");
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final int[] csvIndexes;
+    private long line;
+
+    /**
+     * @param error null 이 아니면 request 는 null
+     */
+    public record Row(long line, UserCreateRequest request, String error) {
+    }
+
+    private UserBulkImportReader(BufferedReader reader, ObjectMapper objectMapper, int[] csvIndexes, long line) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.csvIndexes = csvIndexes;
+        this.line = line;
+    }
+
+    /**
+     * CSV 는 헤더를 바로 읽어 확인하므로, 형식이 틀리면 응답을 보내기 전에 {@link InvalidImportFileException} 이 납니다.
+     */
+    public static UserBulkImportReader open(InputStream input, MediaType contentType, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new UserBulkImportReader(reader, objectMapper, null, 0);
+        }
+        if (!TEXT_CSV.isCompatibleWith(contentType)) {
+            throw new InvalidImportFileException("Unsupported content type: " + contentType);
+        }
+
+        String header = reader.readLine();
+        if (header == null) {
+            throw new InvalidImportFileException("CSV header is missing");
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        List<String> names = parseCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < names.size(); i++) {
+            positions.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        int[] indexes = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            Integer position = positions.get(CSV_COLUMNS.get(i));
+            if (position == null) {
+                throw new InvalidImportFileException("CSV header must contain email, password, username, phoneNumber");
+            }
+            indexes[i] = position;
+        }
+        return new UserBulkImportReader(reader, objectMapper, indexes, 1);
+    }
+
+    /**
+     * @return 더 읽을 줄이 없으면 null
+     */
+    public Row next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        if (csvIndexes == null) {
+            try {
+                UserCreateRequest request = objectMapper.readValue(text, UserCreateRequest.class);
+                // "null" 한 단어짜리 줄은 예외 없이 null 로 읽힙니다.
+                return request != null ? new Row(line, request, null) : new Row(line, null, "Expected a JSON object");
+            } catch (JsonProcessingException e) {
+                return new Row(line, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        List<String> fields = parseCsvLine(text);
+        String[] values = new String[csvIndexes.length];
+        for (int i = 0; i < csvIndexes.length; i++) {
+            if (csvIndexes[i] >= fields.size()) {
+                return new Row(line, null, "Expected " + CSV_COLUMNS.size() + " columns but got " + fields.size());
+            }
+            values[i] = fields.get(csvIndexes[i]).trim();
+        }
+        return new Row(line, new UserCreateRequest(values[0], values[1], values[2], values[3]), null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // RFC 4180 의 한 줄짜리 레코드만 지원합니다 (따옴표 안의 줄바꿈 제외).
+    static List<String> parseCsvLine(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.user_service.service;
+
+import com.example.user_service.config.bulkimport.UserBulkImportProperties;
+import com.example.user_service.config.traffic.TrafficClass;
+import com.example.user_service.dto.request.UserCreateRequest;
+import com.example.user_service.dto.response.UserBulkImportResult;
+import com.example.user_service.dto.response.UserBulkImportResult.Status;
+import com.example.user_service.entity.User;
+import com.example.user_service.exception.BulkImportBusyException;
+import com.example.user_service.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 내부 시스템용 기사 일괄 등록 (POST /internal/api/users/bulk).
+ * 입력을 chunkSize 행씩 끊어 다음 순서로 처리하고, 청크가 끝날 때마다 행별 결과를 NDJSON 으로 내보냅니다.
+ * 1. 형식 검증 ({@link UserCreateRequest} 제약) 및 파일 안 중복 제거
+ * 2. 청크 전체의 이메일 / 전화번호 / 이름 중복을 IN 조회 한 번씩으로 확인
+ * 3. 남은 행의 비밀번호를 해시 전용 풀에서 병렬로 BCrypt
+ * 4. 한 트랜잭션에서 saveAll → flush (hibernate.jdbc.batch_size 단위 JDBC 배치) → clear
+ *    다른 요청과 겹쳐 unique 제약에 걸리면 그 청크만 행마다 따로 저장해 실패한 행만 골라냅니다.
+ * 청크 사이에는 트랜잭션을 나누므로, 중간에 끊기면 앞 청크까지는 저장된 상태이고 같은 파일을 다시 보내면 DUPLICATE 로 건너뜁니다.
+ * 해시 풀은 모든 요청이 나눠 쓰고 CallerRunsPolicy 로 요청 스레드도 해시하므로, 동시 일괄 등록 수(maxConcurrent)를 따로 제한합니다.
+ * 등록은 MVC 비동기 스레드에서 실행되어 BulkheadFilter 가 기록한 분류가 없으므로, 내부 전용 커넥션 풀을 쓰도록 INTERNAL 을 직접 기록합니다.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(UserBulkImportProperties.class)
+public class UserBulkImportService {
+
+    private static final String ROLE = "ROLE_DRIVER";
+
+    private final UserRepository userRepository;
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ThreadPoolExecutor hashPool;
+    private final Semaphore imports;
+
+    private record Existing(Set<String> emails, Set<String> phoneNumbers, Set<String> usernames) {
+    }
+
+    public UserBulkImportService(UserRepository userRepository,
+                                 BCryptPasswordEncoder bCryptPasswordEncoder,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 UserBulkImportProperties properties) {
+        this.userRepository = userRepository;
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = properties.chunkSize();
+        this.imports = new Semaphore(properties.maxConcurrent());
+
+        // 큐가 차면 요청 스레드가 직접 해시해 여러 요청이 동시에 들어와도 CPU 사용량이 풀 크기 + 요청 수로 묶입니다.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashPool = new ThreadPoolExecutor(properties.hashThreads(), properties.hashThreads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdown();
+    }
+
+    /**
+     * 응답을 시작하기 전에 호출해 입력 형식(CSV 헤더 등) 오류는 400, 동시 실행 초과는 429 로 돌려줄 수 있게 합니다.
+     * 여기서 잡은 실행 자리는 {@link #importUsers} 가 끝날 때 돌려주므로, 돌려받은 reader 는 반드시 importUsers 로 넘깁니다.
+     */
+    public UserBulkImportReader open(InputStream input, MediaType contentType) throws IOException {
+        if (!imports.tryAcquire()) {
+            throw new BulkImportBusyException("Another bulk import is in progress. Retry later.");
+        }
+        try {
+            return UserBulkImportReader.open(input, contentType, objectMapper);
+        } catch (IOException | RuntimeException e) {
+            imports.release();
+            throw e;
+        }
+    }
+
+    /**
+     * reader 를 끝까지 읽어 등록하고 행별 결과를 output 에 한 줄씩 씁니다. reader 를 닫고 실행 자리를 돌려줍니다.
+     */
+    public void importUsers(UserBulkImportReader reader, OutputStream output) throws IOException {
+        long startedAt = System.nanoTime();
+        int[] counts = new int[Status.values().length];
+        try (reader; TrafficClass.Scope ignored = TrafficClass.INTERNAL.bindToCurrentThread()) {
+            List<UserBulkImportReader.Row> chunk = new ArrayList<>(chunkSize);
+            UserBulkImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    write(importChunk(chunk), output, counts);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(importChunk(chunk), output, counts);
+            }
+        } finally {
+            imports.release();
+        }
+        log.info("사용자 일괄 등록 완료. 생성: {}, 중복: {}, 형식 오류: {}, 실패: {}, 소요: {}ms",
+                counts[Status.CREATED.ordinal()], counts[Status.DUPLICATE.ordinal()],
+                counts[Status.INVALID.ordinal()], counts[Status.FAILED.ordinal()],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private void write(UserBulkImportResult[] results, OutputStream output, int[] counts) throws IOException {
+        for (UserBulkImportResult result : results) {
+            output.write(objectMapper.writeValueAsBytes(result));
+            output.write('\n');
+            counts[result.status().ordinal()]++;
+        }
+        // 청크마다 내보내 호출 측이 진행 상황을 바로 볼 수 있게 합니다.
+        output.flush();
+    }
+
+    private UserBulkImportResult[] importChunk(List<UserBulkImportReader.Row> rows) {
+        UserBulkImportResult[] results = new UserBulkImportResult[rows.size()];
+
+        // 1. 형식 검증 + 파일 안 중복
+        List<Integer> candidates = new ArrayList<>(rows.size());
+        Set<String> emails = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        Set<String> usernames = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UserBulkImportReader.Row row = rows.get(i);
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                results[i] = UserBulkImportResult.rejected(row.line(), Status.INVALID, email(row), error);
+                continue;
+            }
+            UserCreateRequest request = row.request();
+            String duplicate = !emails.add(request.email()) ? "Email"
+                    : !phoneNumbers.add(request.phoneNumber()) ? "Phone number"
+                    : !usernames.add(request.username()) ? "Username" : null;
+            if (duplicate != null) {
+                results[i] = UserBulkImportResult.rejected(row.line(), Status.DUPLICATE, request.email(), duplicate + " appears earlier in the file");
+                continue;
+            }
+            candidates.add(i);
+        }
+
+        // 2. DB 중복 - 읽기 전용이 아닌 트랜잭션으로 묶어 (라우팅 시) 복제 지연 없이 primary 에서 확인
+        if (!candidates.isEmpty()) {
+            Existing existing = transactionTemplate.execute(status -> new Existing(
+                    new HashSet<>(userRepository.findExistingEmails(emails)),
+                    new HashSet<>(userRepository.findExistingPhoneNumbers(phoneNumbers)),
+                    new HashSet<>(userRepository.findExistingUsernames(usernames))));
+            candidates.removeIf(i -> {
+                UserCreateRequest request = rows.get(i).request();
+                String duplicate = existing.emails().contains(request.email()) ? "Email"
+                        : existing.phoneNumbers().contains(request.phoneNumber()) ? "Phone number"
+                        : existing.usernames().contains(request.username()) ? "Username" : null;
+                if (duplicate == null) {
+                    return false;
+                }
+                results[i] = UserBulkImportResult.rejected(rows.get(i).line(), Status.DUPLICATE, request.email(), duplicate + " already exists");
+                return true;
+            });
+        }
+        if (candidates.isEmpty()) {
+            return results;
+        }
+
+        // 3. 비밀번호 해시 병렬 처리 (커넥션을 잡기 전에 끝냄)
+        List<CompletableFuture<String>> hashes = candidates.stream()
+                                                          .map(i -> CompletableFuture.supplyAsync(
+                                                                  () -> bCryptPasswordEncoder.encode(rows.get(i).request().password()), hashPool))
+                                                          .toList();
+        List<String> passwords = hashes.stream().map(CompletableFuture::join).toList();
+
+        // 4. 배치 INSERT
+        List<User> users = new ArrayList<>(candidates.size());
+        for (int c = 0; c < candidates.size(); c++) {
+            users.add(toUser(rows.get(candidates.get(c)).request(), passwords.get(c)));
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            for (int c = 0; c < candidates.size(); c++) {
+                User user = users.get(c);
+                results[candidates.get(c)] = UserBulkImportResult.created(rows.get(candidates.get(c)).line(), user.getId(), user.getUserId(), user.getEmail());
+            }
+        } catch (RuntimeException e) {
+            log.warn("사용자 일괄 등록 청크 저장 실패. 행마다 다시 저장합니다. 건수: {}", candidates.size(), e);
+            for (int c = 0; c < candidates.size(); c++) {
+                int i = candidates.get(c);
+                results[i] = saveOne(rows.get(i), passwords.get(c));
+            }
+        }
+        return results;
+    }
+
+    private UserBulkImportResult saveOne(UserBulkImportReader.Row row, String password) {
+        // 실패한 배치에서 ID 가 채워진 엔티티는 merge 대상이 되므로 새로 만듭니다.
+        User user = toUser(row.request(), password);
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.save(user));
+            return UserBulkImportResult.created(row.line(), user.getId(), user.getUserId(), user.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            return UserBulkImportResult.rejected(row.line(), Status.DUPLICATE, user.getEmail(), "Email, phone number or username already exists");
+        } catch (RuntimeException e) {
+            log.error("사용자 일괄 등록 행 저장 실패. line: {}", row.line(), e);
+            return UserBulkImportResult.rejected(row.line(), Status.FAILED, user.getEmail(), e.getMessage());
+        }
+    }
+
+    private String validate(UserCreateRequest request) {
+        Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+    }
+
+    private static String email(UserBulkImportReader.Row row) {
+        return row.request() != null ? row.request().email() : null;
+    }
+
+    private static User toUser(UserCreateRequest request, String password) {
+        return User.builder()
+                   .email(request.email())
+                   .username(request.username())
+                   .role(ROLE)
+                   .password(password)
+                   .phoneNumber(request.phoneNumber())
+                   .build();
+    }
+}
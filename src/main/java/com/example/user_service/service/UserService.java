@@ -1,31 +1,51 @@
 package com.example.user_service.service;
 
+import com.example.user_service.config.logging.HotPathLogger;
+import com.example.user_service.config.logging.HotPathLoggerFactory;
+import com.example.user_service.config.securiy.revocation.TokenRevocationList;
 import com.example.user_service.dto.request.UserCreateRequest;
 import com.example.user_service.dto.request.UserPasswordChangeRequest;
+import com.example.user_service.dto.request.UserSearchRequest;
 import com.example.user_service.dto.request.UserUpdateRequest;
 import com.example.user_service.dto.response.InternalUserResponse;
 import com.example.user_service.dto.response.UserCreateResponse;
 import com.example.user_service.dto.response.UserProfileResponse;
+import com.example.user_service.dto.response.UserSearchResponse;
+import com.example.user_service.dto.response.UserSummaryResponse;
 import com.example.user_service.dto.response.UserUpdateResponse;
 import com.example.user_service.entity.User;
 import com.example.user_service.exception.DuplicateEmailException;
 import com.example.user_service.exception.DuplicatePhoneNumberException;
 import com.example.user_service.exception.UserNotFoundException;
 import com.example.user_service.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UserService {
 
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenService refreshTokenService;
+    private final HotPathLogger accessDeniedLog;
+
+    public UserService(UserRepository userRepository, BCryptPasswordEncoder bCryptPasswordEncoder,
+                       TokenRevocationList tokenRevocationList, RefreshTokenService refreshTokenService,
+                       HotPathLoggerFactory hotPathLoggerFactory) {
+        this.userRepository = userRepository;
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.tokenRevocationList = tokenRevocationList;
+        this.refreshTokenService = refreshTokenService;
+        this.accessDeniedLog = hotPathLoggerFactory.getLogger(log, "user-access-denied");
+    }
 
     @Transactional
     public UserCreateResponse createUser(UserCreateRequest request) {
@@ -49,9 +69,19 @@ public class UserService {
         validateOwner(user, authenticatedUserId);
 
         userRepository.delete(user);
+        revokeAllSessions(user);
         log.info("사용자 삭제 완료. ID: {}", id);
     }
 
+    @Transactional
+    public void revokeSessions(Long id, String authenticatedUserId) {
+        User user = getUserOrThrow(id);
+
+        validateOwner(user, authenticatedUserId);
+
+        revokeAllSessions(user);
+    }
+
     @Transactional
     public UserUpdateResponse updateUser(Long id, UserUpdateRequest request, String authenticatedUserId) {
         User user = getUserOrThrow(id);
@@ -83,6 +113,8 @@ public class UserService {
         }
 
         user.setPassword(bCryptPasswordEncoder.encode(request.newPassword()));
+        // 변경 전에 발급된 토큰(Access/Refresh)으로는 더 이상 접근하거나 재발급받을 수 없게 합니다.
+        revokeAllSessions(user);
         log.info("비밀번호 변경 완료. ID: {}", id);
     }
 
@@ -94,6 +126,24 @@ public class UserService {
         return InternalUserResponse.fromEntity(user);
     }
 
+    @Transactional(readOnly = true)
+    public UserSearchResponse searchUsers(UserSearchRequest request) {
+        int size = request.pageSize();
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건을 조회합니다.
+        List<User> users = userRepository.search(request, size + 1);
+        boolean hasNext = users.size() > size;
+        List<UserSummaryResponse> page = users.stream()
+                                              .limit(size)
+                                              .map(UserSummaryResponse::fromEntity)
+                                              .toList();
+
+        UserSummaryResponse last = hasNext ? page.get(page.size() - 1) : null;
+        Long nextCursor = last != null ? last.id() : null;
+        LocalDateTime nextCursorCreatedAt = last != null && request.sortsByCreatedAt() ? last.createdAt() : null;
+        return new UserSearchResponse(page, nextCursor, nextCursorCreatedAt, hasNext);
+    }
+
     private User getUserOrThrow(Long id) {
         return userRepository.findById(id)
                              .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
@@ -101,11 +151,17 @@ public class UserService {
 
     private void validateOwner(User targetUser, String authenticatedUserId) {
         if (!targetUser.getUserId().equals(authenticatedUserId)) {
-            log.warn("권한 없는 접근 시도! Target PK: {}, Requester UUID: {}", targetUser.getId(), authenticatedUserId);
+            accessDeniedLog.warn("권한 없는 접근 시도! Target PK: {}, Requester UUID: {}", targetUser.getId(), authenticatedUserId);
             throw new AccessDeniedException("본인의 정보만 수정/삭제할 수 있습니다.");
         }
     }
 
+    private void revokeAllSessions(User user) {
+        int deleted = refreshTokenService.deleteAll(user.getUserId());
+        tokenRevocationList.revokeUser(user.getUserId());
+        log.info("사용자 전체 세션 폐기. ID: {}, 삭제한 Refresh 토큰: {}", user.getId(), deleted);
+    }
+
     private UserCreateResponse register(UserCreateRequest request, String role) {
         log.info("회원가입 요청: email={}, role={}", request.email(), role);
 
@@ -0,0 +1,49 @@
+package com.example.user_service.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 결과를 build/reports/benchmark 아래 텍스트 파일로 남깁니다.
+ * 빌드 간 비교가 쉽도록 "key: value" 형식의 한 줄 단위로 기록합니다.
+ */
+public final class BenchmarkReport {
+
+    private final String name;
+    private final List<String> lines = new ArrayList<>();
+
+    private BenchmarkReport(String name) {
+        this.name = name;
+        lines.add("benchmark: " + name);
+        lines.add("timestamp: " + Instant.now());
+        lines.add("java: " + System.getProperty("java.version"));
+        lines.add("cpus: " + Runtime.getRuntime().availableProcessors());
+    }
+
+    public static BenchmarkReport create(String name) {
+        return new BenchmarkReport(name);
+    }
+
+    public BenchmarkReport line(String key, Object value) {
+        lines.add(key + ": " + value);
+        return this;
+    }
+
+    public Path write() {
+        Path dir = Path.of(System.getProperty("benchmark.reportDir", "build/reports/benchmark"));
+        Path file = dir.resolve(name + ".txt");
+        try {
+            Files.createDirectories(dir);
+            Files.write(file, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lines.forEach(System.out::println);
+        return file;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.user_service.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+import com.example.user_service.config.logging.CountingAsyncAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 스레드가 log.info() 한 번에 쓰는 시간을 동기/비동기 파이프라인으로 비교합니다.
+ * 느린 디스크·Logstash 를 흉내 내기 위해 이벤트당 지연이 있는 appender 를 끝단에 둡니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class LoggingPipelineBenchmark {
+
+    private static final int EVENTS = 20_000;
+    private static final long SINK_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Test
+    @DisplayName("느린 appender 앞에서 동기/비동기 로깅의 호출 스레드 비용을 비교한다")
+    void callerThreadCost() {
+        long[] sync = measure(false);
+        long[] async = measure(true);
+        CountingAsyncAppender overflowing = new CountingAsyncAppender();
+        long[] asyncDropped = measureDropping(overflowing);
+
+        BenchmarkReport.create("logging-pipeline")
+                       .line("events", EVENTS)
+                       .line("sink_delay_us", TimeUnit.NANOSECONDS.toMicros(SINK_DELAY_NANOS))
+                       .line("sync.p50_ns", percentile(sync, 0.50))
+                       .line("sync.p99_ns", percentile(sync, 0.99))
+                       .line("async.p50_ns", percentile(async, 0.50))
+                       .line("async.p99_ns", percentile(async, 0.99))
+                       .line("async_never_block.p99_ns", percentile(asyncDropped, 0.99))
+                       .line("async_never_block.discarded", overflowing.getDiscardedCount())
+                       .line("async_never_block.overflowed", overflowing.getOverflowedCount())
+                       .write();
+    }
+
+    private long[] measure(boolean async) {
+        LoggerContext context = new LoggerContext();
+        Appender<ILoggingEvent> sink = slowSink(context);
+        Appender<ILoggingEvent> target = sink;
+        if (async) {
+            CountingAsyncAppender asyncAppender = new CountingAsyncAppender();
+            asyncAppender.setQueueSize(EVENTS);
+            asyncAppender.setDiscardingThreshold(0);
+            target = wrap(context, asyncAppender, sink);
+        }
+        try {
+            return run(logger(context, target));
+        } finally {
+            context.stop();
+        }
+    }
+
+    // 큐(1024)가 부족한 상황에서 neverBlock 정책이 호출 스레드를 보호하는지 확인
+    private long[] measureDropping(CountingAsyncAppender asyncAppender) {
+        LoggerContext context = new LoggerContext();
+        asyncAppender.setQueueSize(1024);
+        asyncAppender.setNeverBlock(true);
+        try {
+            return run(logger(context, wrap(context, asyncAppender, slowSink(context))));
+        } finally {
+            context.stop();
+        }
+    }
+
+    private long[] run(Logger logger) {
+        for (int i = 0; i < 1_000; i++) {
+            logger.debug("warm-up {}", i);
+        }
+        long[] samples = new long[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            long start = System.nanoTime();
+            logger.info("결제 수단 조회 요청 - 사용자 ID: {}", i);
+            samples[i] = System.nanoTime() - start;
+        }
+        return samples;
+    }
+
+    private Appender<ILoggingEvent> slowSink(LoggerContext context) {
+        AppenderBase<ILoggingEvent> sink = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                event.getFormattedMessage();
+                LockSupport.parkNanos(SINK_DELAY_NANOS);
+            }
+        };
+        sink.setContext(context);
+        sink.setName("SLOW");
+        sink.start();
+        return sink;
+    }
+
+    private Appender<ILoggingEvent> wrap(LoggerContext context, CountingAsyncAppender asyncAppender,
+                                         Appender<ILoggingEvent> sink) {
+        asyncAppender.setContext(context);
+        asyncAppender.setName("ASYNC_SLOW");
+        asyncAppender.addAppender(sink);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+
+    private Logger logger(LoggerContext context, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger("benchmark");
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private long percentile(long[] samples, double p) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(p * (sorted.length - 1)))];
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.user_service.benchmark;
+
+import com.example.user_service.entity.PaymentMethod;
+import com.example.user_service.entity.RefreshToken;
+import com.example.user_service.entity.User;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * 쓰기 경로 배치 효과 측정. batch_size=1 은 배치 없이 행마다 INSERT 를 한 번씩 보내는 경우이며,
+ * 두 경우 모두 pooled sequence 로 ID 를 할당하므로 IDENTITY 전략의 비용(INSERT 마다 생성 키 조회)은 포함하지 않습니다.
+ * 실행: ./gradlew benchmark (H2 기준이므로 절대값보다 전/후 비율을 봅니다)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50"
+})
+class WriteBatchingBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROWS = 1_000;
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.now().plusDays(1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("refresh token / payment method INSERT 의 초당 처리 건수를 배치 전후로 비교한다")
+    void insertThroughput() {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        User owner = entityManager.persistFlushFind(User.builder()
+                                                        .email("bench@example.com")
+                                                        .password("password")
+                                                        .username("bench")
+                                                        .role("ROLE_USER")
+                                                        .phoneNumber("01000000000")
+                                                        .build());
+
+        IntConsumer insertToken = i -> session.persist(new RefreshToken("bench-user", "refresh-" + UUID.randomUUID(), EXPIRES_AT));
+        IntConsumer insertCard = i -> session.persist(PaymentMethod.builder()
+                                                                   .user(owner)
+                                                                   .billingKey("bench-key-" + i)
+                                                                   .cardIssuer("Visa")
+                                                                   .expiryDate("12/30")
+                                                                   .cardNumberMasked("4111-XXXX-XXXX-1111")
+                                                                   .isDefault(false)
+                                                                   .build());
+
+        measure(session, 1, WARMUP_ROWS, insertToken);
+        measure(session, 50, WARMUP_ROWS, insertToken);
+
+        BenchmarkReport.create("write-batching")
+                       .line("rows", ROWS)
+                       .line("refresh_token.batch_1.rows_per_sec", measure(session, 1, ROWS, insertToken))
+                       .line("refresh_token.batch_50.rows_per_sec", measure(session, 50, ROWS, insertToken))
+                       .line("payment_method.batch_1.rows_per_sec", measure(session, 1, ROWS, insertCard))
+                       .line("payment_method.batch_50.rows_per_sec", measure(session, 50, ROWS, insertCard))
+                       .write();
+    }
+
+    private long measure(Session session, int batchSize, int rows, IntConsumer insert) {
+        session.setJdbcBatchSize(batchSize);
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            insert.accept(i);
+            if ((i + 1) % batchSize == 0) {
+                session.flush();
+                session.clear();
+            }
+        }
+        session.flush();
+        session.clear();
+        long elapsed = System.nanoTime() - start;
+        return Math.round(rows / (elapsed / 1_000_000_000.0));
+    }
+}
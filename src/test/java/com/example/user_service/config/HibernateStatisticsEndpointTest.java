@@ -0,0 +1,51 @@
+package com.example.user_service.config;
+
+import com.example.user_service.config.HibernateStatisticsEndpoint.HibernateStatisticsDescriptor;
+import com.example.user_service.entity.User;
+import com.example.user_service.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class HibernateStatisticsEndpointTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("통계를 켜면 실행한 쿼리가 누적 통계와 상위 쿼리 목록에 나타난다")
+    void reportsExecutedQueries() {
+        // Given
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().clear();
+        HibernateStatisticsEndpoint endpoint = new HibernateStatisticsEndpoint(entityManagerFactory);
+
+        // When
+        userRepository.findExistingEmails(List.of("stats@example.com"));
+        HibernateStatisticsDescriptor descriptor = endpoint.statistics();
+
+        // Then
+        assertThat(descriptor.queryExecutions()).isPositive();
+        assertThat(descriptor.topQueries())
+                .anySatisfy(query -> assertThat(query.query()).contains(User.class.getSimpleName()));
+    }
+
+    @Test
+    @DisplayName("통계가 꺼져 있으면(기본값) 엔드포인트 빈을 만들지 않는다")
+    void notRegisteredWhenStatisticsDisabled() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(HibernateStatisticsEndpoint.class)
+                .run(context -> assertThat(context).doesNotHaveBean(HibernateStatisticsEndpoint.class));
+    }
+}
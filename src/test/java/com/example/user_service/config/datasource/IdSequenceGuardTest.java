@@ -0,0 +1,82 @@
+package com.example.user_service.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdSequenceGuardTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(EmbeddedDatabaseType.H2).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE payment_method (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE refresh_token (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.update("INSERT INTO users (id) VALUES (1), (2), (120)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    // ddl-auto 가 MySQL 에서 만드는 시퀀스 테이블과 같은 모양
+    private void createSequenceTable(String name, long nextVal) {
+        jdbcTemplate.execute("CREATE TABLE " + name + " (next_val BIGINT)");
+        jdbcTemplate.update("INSERT INTO " + name + " (next_val) VALUES (?)", nextVal);
+    }
+
+    @Test
+    @DisplayName("이전 스크립트 없이 ddl-auto 가 만든 시퀀스 테이블(next_val = 1)이면 기동을 중단한다")
+    void failsWhenSequenceTableStartsAtOne() {
+        // Given
+        createSequenceTable("users_seq", 1);
+
+        // When & Then
+        assertThatThrownBy(() -> new IdSequenceGuard(database).afterPropertiesSet())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("users_seq")
+                .hasMessageContaining("migrate-id-sequences.sql");
+    }
+
+    @Test
+    @DisplayName("next_val 이 최대 ID + allocationSize 이상이면 통과하고, 빈 테이블은 확인하지 않는다")
+    void passesWhenSequenceIsAheadOfMaxId() {
+        // Given
+        createSequenceTable("users_seq", 120 + IdSequenceGuard.ALLOCATION_SIZE);
+        createSequenceTable("payment_method_seq", 1);
+
+        // When & Then
+        assertThatCode(() -> new IdSequenceGuard(database).afterPropertiesSet()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("next_val 이 최대 ID 보다 크더라도 할당 구간이 기존 ID 와 겹치면 기동을 중단한다")
+    void failsWhenAllocationRangeOverlapsExistingIds() {
+        // Given
+        createSequenceTable("users_seq", 121);
+
+        // When & Then
+        assertThatThrownBy(() -> new IdSequenceGuard(database).afterPropertiesSet())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("시퀀스 테이블이 없는 DB(네이티브 시퀀스 사용)는 확인하지 않는다")
+    void skipsWithoutSequenceTables() {
+        // When & Then
+        assertThatCode(() -> new IdSequenceGuard(database).afterPropertiesSet()).doesNotThrowAnyException();
+    }
+}
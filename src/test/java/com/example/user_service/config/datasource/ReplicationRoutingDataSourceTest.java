@@ -0,0 +1,124 @@
+package com.example.user_service.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private final EmbeddedDatabase primary = createDatabase("primary");
+    private final EmbeddedDatabase replica = createDatabase("replica");
+
+    @AfterEach
+    void tearDown() {
+        ReplicationRoutingDataSource.clearCaller();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 Replica, 쓰기 트랜잭션은 Primary 로 라우팅된다")
+    void routesByTransactionReadOnlyFlag() {
+        // Given
+        DataSource dataSource = routingDataSource(Duration.ZERO);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate writeTx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        TransactionTemplate readTx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readTx.setReadOnly(true);
+
+        // When
+        String writeTarget = writeTx.execute(status -> currentNode(jdbcTemplate));
+        String readTarget = readTx.execute(status -> currentNode(jdbcTemplate));
+
+        // Then
+        assertThat(writeTarget).isEqualTo("primary");
+        assertThat(readTarget).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 sticky window 안에서는 같은 사용자의 다음 요청도 readOnly 트랜잭션이 Primary 로 라우팅된다")
+    void readAfterWriteSticksToPrimary() {
+        // Given
+        DataSource dataSource = routingDataSource(Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate writeTx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        TransactionTemplate readTx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readTx.setReadOnly(true);
+
+        ReplicationRoutingDataSource.bindCaller("user-1");
+        String beforeWrite = readTx.execute(status -> currentNode(jdbcTemplate));
+
+        // When - 쓰기 요청 이후 같은 사용자의 새 요청
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+        ReplicationRoutingDataSource.bindCaller("user-1");
+        String afterWrite = readTx.execute(status -> currentNode(jdbcTemplate));
+
+        // Then
+        assertThat(beforeWrite).isEqualTo("replica");
+        assertThat(afterWrite).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 쓰기는 readOnly 트랜잭션을 Primary 로 끌어오지 않는다")
+    void otherCallersWritesDoNotStick() {
+        // Given
+        DataSource dataSource = routingDataSource(Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate writeTx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        TransactionTemplate readTx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readTx.setReadOnly(true);
+
+        ReplicationRoutingDataSource.bindCaller("user-1");
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        // When
+        ReplicationRoutingDataSource.bindCaller("user-2");
+        String otherUser = readTx.execute(status -> currentNode(jdbcTemplate));
+        ReplicationRoutingDataSource.bindCaller(null);
+        String anonymous = readTx.execute(status -> currentNode(jdbcTemplate));
+
+        // Then
+        assertThat(otherUser).isEqualTo("replica");
+        assertThat(anonymous).isEqualTo("replica");
+    }
+
+    private DataSource routingDataSource(Duration stickyWindow) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(stickyWindow);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private String currentNode(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + UUID.randomUUID())
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return database;
+    }
+}
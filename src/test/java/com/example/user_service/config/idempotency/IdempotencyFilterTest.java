@@ -0,0 +1,166 @@
+package com.example.user_service.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private final IdempotencyProperties properties =
+            new IdempotencyProperties(true, Duration.ofHours(1), 100, Duration.ofSeconds(5), false, null);
+    private final IdempotencyFilter filter =
+            new IdempotencyFilter(new IdempotencyStore(100, null), properties, new SimpleMeterRegistry(), new ObjectMapper());
+    private final AtomicInteger executions = new AtomicInteger();
+
+    // 요청 본문을 읽고 201 + 실행 횟수를 응답하는 컨트롤러 대역
+    private final FilterChain createChain = (request, response) -> {
+        String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+        int count = executions.incrementAndGet();
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(201);
+        http.setContentType("application/json");
+        http.getWriter().write("{\"execution\":" + count + ",\"echo\":" + body + "}");
+    };
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 컨트롤러를 다시 실행하지 않고 첫 응답을 돌려준다")
+    void replaysFirstResponse() throws Exception {
+        // Given
+        MockHttpServletResponse first = perform("key-1", "{\"email\":\"a@b.com\"}");
+
+        // When
+        MockHttpServletResponse retry = perform("key-1", "{\"email\":\"a@b.com\"}");
+
+        // Then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).isEqualTo("{\"execution\":1,\"echo\":{\"email\":\"a@b.com\"}}");
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 본문을 보내면 422 를 반환한다")
+    void rejectsDifferentBodyForSameKey() throws Exception {
+        // Given
+        perform("key-2", "{\"email\":\"a@b.com\"}");
+
+        // When
+        MockHttpServletResponse response = perform("key-2", "{\"email\":\"other@b.com\"}");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).startsWith("{\"message\":");
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 저장하지 않아 재시도가 다시 실행된다")
+    void doesNotStoreServerErrors() throws Exception {
+        // Given
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        // When
+        perform("key-3", "{}", failing);
+        MockHttpServletResponse retry = perform("key-3", "{}", failing);
+
+        // Then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 들어온 요청은 첫 요청을 기다렸다가 같은 응답을 받는다")
+    void concurrentDuplicateWaitsForFirst() throws Exception {
+        // Given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            createChain.doFilter(request, response);
+        };
+        CompletableFuture<MockHttpServletResponse> first =
+                CompletableFuture.supplyAsync(() -> performUnchecked("key-4", "{}", slow));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<MockHttpServletResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> performUnchecked("key-4", "{}", slow));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        MockHttpServletResponse firstResponse = first.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse duplicateResponse = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(duplicateResponse.getContentAsString()).isEqualTo(firstResponse.getContentAsString());
+        assertThat(duplicateResponse.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더가 없으면 매번 실행한다")
+    void withoutHeaderAlwaysExecutes() throws Exception {
+        // Given
+        MockHttpServletRequest request = request(null, "{}");
+        MockHttpServletRequest retry = request(null, "{}");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), createChain);
+        filter.doFilter(retry, new MockHttpServletResponse(), createChain);
+
+        // Then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private MockHttpServletResponse perform(String key, String body) throws Exception {
+        return perform(key, body, createChain);
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(key, body), response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse performUnchecked(String key, String body, FilterChain chain) {
+        try {
+            return perform(key, body, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.user_service.config.idempotency;
+
+import com.example.user_service.repository.IdempotencyRecordRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 저장소가 파드마다 따로 커밋하는 상황을 보기 위해 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyStoreTest {
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    private static StoredResponse response(String body, long expiresAtMillis) {
+        return new StoredResponse("fingerprint", 201, "application/json", "/api/users/1",
+                body.getBytes(StandardCharsets.UTF_8), expiresAtMillis);
+    }
+
+    @Test
+    @DisplayName("DB 계층에 저장한 응답은 다른 파드(메모리가 빈 저장소)에서도 조회된다")
+    void otherPodReadsFromDatabase() {
+        // Given
+        IdempotencyStore pod1 = new IdempotencyStore(100, repository);
+        IdempotencyStore pod2 = new IdempotencyStore(100, repository);
+        pod1.save("key-1", response("{\"id\":1}", System.currentTimeMillis() + 60_000));
+
+        // When
+        StoredResponse found = pod2.find("key-1");
+
+        // Then
+        assertThat(found).isNotNull();
+        assertThat(found.status()).isEqualTo(201);
+        assertThat(found.location()).isEqualTo("/api/users/1");
+        assertThat(new String(found.body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("응답 저장은 SELECT 없이 INSERT 한 문장으로 끝난다")
+    void savesWithSingleInsert() {
+        // Given
+        IdempotencyStore store = new IdempotencyStore(100, repository);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        store.save("key-2", response("{\"id\":2}", System.currentTimeMillis() + 60_000));
+
+        // Then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 파드가 같은 키를 먼저 저장했으면 예외 없이 넘어가고 먼저 저장된 응답이 유지된다")
+    void keepsFirstResponseOnDuplicateKey() {
+        // Given
+        IdempotencyStore pod1 = new IdempotencyStore(100, repository);
+        IdempotencyStore pod2 = new IdempotencyStore(100, repository);
+        pod1.save("key-3", response("{\"id\":3}", System.currentTimeMillis() + 60_000));
+
+        // When
+        pod2.save("key-3", response("{\"id\":4}", System.currentTimeMillis() + 60_000));
+
+        // Then
+        StoredResponse found = new IdempotencyStore(100, repository).find("key-3");
+        assertThat(new String(found.body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":3}");
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 응답은 DB 에 남아 있어도 조회되지 않고 정리 작업에서 삭제된다")
+    void expiredResponsesAreIgnoredAndPurged() {
+        // Given
+        IdempotencyStore store = new IdempotencyStore(100, repository);
+        store.save("key-5", response("{\"id\":5}", System.currentTimeMillis() - 1_000));
+
+        // When
+        StoredResponse found = new IdempotencyStore(100, repository).find("key-5");
+        store.purgeExpired();
+
+        // Then
+        assertThat(found).isNull();
+        assertThat(repository.count()).isZero();
+    }
+}
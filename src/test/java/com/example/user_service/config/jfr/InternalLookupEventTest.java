@@ -0,0 +1,78 @@
+package com.example.user_service.config.jfr;
+
+import com.example.user_service.controller.InternalUserController;
+import com.example.user_service.exception.PaymentMethodNotFoundException;
+import com.example.user_service.service.PaymentMethodService;
+import com.example.user_service.service.UserBulkImportService;
+import com.example.user_service.service.UserService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InternalLookupEventTest {
+
+    private static final String EVENT_NAME = "com.example.user_service.InternalLookup";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("조회가 예외로 끝나도 조회 시간이 기록된 이벤트가 커밋된다")
+    void recordsLookupTimeOnNotFound() throws Exception {
+        // Given
+        PaymentMethodService paymentMethodService = mock(PaymentMethodService.class);
+        when(paymentMethodService.getDefaultPaymentMethod("missing"))
+                .thenThrow(new PaymentMethodNotFoundException("No default payment method found for user ID: missing"));
+        InternalUserController controller = new InternalUserController(mock(UserService.class), paymentMethodService,
+                mock(UserBulkImportService.class));
+        Path dump = directory.resolve("lookup.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withoutThreshold();
+            recording.start();
+            InternalLookupEvent.start("/internal/api/users/{userId}/payment-methods/default");
+            assertThatThrownBy(() -> controller.getUserInfoForPayment("missing"))
+                    .isInstanceOf(PaymentMethodNotFoundException.class);
+            InternalLookupEvent.finish(404);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                                                  .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                                                  .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("status")).isEqualTo(404);
+        assertThat(events.get(0).getDuration("lookup")).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("이벤트를 켠 JFR 기록이 없으면 로그인 이벤트를 요청 속성에 남기지 않는다")
+    void skipsLoginEventWithoutRecording() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+
+        // When
+        LoginEvent event = LoginEvent.start(request);
+        event.finish(true);
+
+        // Then
+        assertThat(event.isEnabled()).isFalse();
+        assertThat(request.getAttributeNames().hasMoreElements()).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.user_service.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotPathLoggerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        appender.setContext(context);
+        appender.start();
+        logger = context.getLogger("hot-path-test");
+        logger.addAppender(appender);
+    }
+
+    private HotPathLoggerFactory factory(Map<String, HotPathLogger.Policy> keys) {
+        return new HotPathLoggerFactory(new HotPathLoggingProperties(new HotPathLogger.Policy(1, 100), keys), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("N 건 중 1 건만 출력하고, 카운터에는 전체 발생 건수가 남는다")
+    void samplesEveryNthEvent() {
+        // Given
+        HotPathLogger hotPathLogger = factory(Map.of("sampled", new HotPathLogger.Policy(10, 1_000))).getLogger(logger, "sampled");
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            hotPathLogger.info("조회 성공 {}", i);
+        }
+
+        // Then
+        assertThat(appender.list).hasSize(10);
+        assertThat(count("sampled", "logged")).isEqualTo(10);
+        assertThat(count("sampled", "sampled_out")).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("초당 상한을 넘는 로그는 출력하지 않고 rate_limited 로 집계한다")
+    void rateLimitsPerKey() {
+        // Given
+        HotPathLogger hotPathLogger = factory(Map.of("limited", new HotPathLogger.Policy(1, 0))).getLogger(logger, "limited");
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            hotPathLogger.warn("권한 없는 접근 시도 {}", i);
+        }
+
+        // Then
+        assertThat(appender.list).isEmpty();
+        assertThat(count("limited", "rate_limited")).isEqualTo(50);
+    }
+
+    private double count(String key, String decision) {
+        return meterRegistry.get("logging.hotpath.events").tag("key", key).tag("decision", decision).counter().count();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.user_service.config.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogstashDropListenerTest {
+
+    // 라이브러리의 링 버퍼 포화 예외와 같은 이름
+    private static class RingBufferFullException extends RuntimeException {
+    }
+
+    @Test
+    @DisplayName("링 버퍼 포화만 overflow 로, 그 밖의 전달 실패는 append_failed 로 집계된다")
+    void countsOverflowSeparatelyFromOtherFailures() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new LoggingMetricsBinder().bindTo(registry);
+        double overflowBefore = dropped(registry, "overflow");
+        double failedBefore = dropped(registry, "append_failed");
+        LogstashDropListener listener = new LogstashDropListener();
+
+        // When
+        listener.eventAppendFailed(null, null, new RingBufferFullException());
+        listener.eventAppendFailed(null, null, new IllegalStateException("shutdown in progress"));
+        listener.eventAppendFailed(null, null, new InterruptedException());
+
+        // Then
+        assertThat(dropped(registry, "overflow") - overflowBefore).isEqualTo(1.0);
+        assertThat(dropped(registry, "append_failed") - failedBefore).isEqualTo(2.0);
+    }
+
+    private static double dropped(SimpleMeterRegistry registry, String reason) {
+        return registry.get("logging.async.events.dropped")
+                       .tag("appender", "LOGSTASH")
+                       .tag("reason", reason)
+                       .functionCounter().count();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.user_service.config.metrics;
+
+import com.example.user_service.config.token.RefreshTokenStore;
+import com.example.user_service.service.RefreshTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new RefreshTokenService(refreshTokenStore));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        refreshTokenService = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("같은 메서드의 호출은 메서드/결과별 타이머 하나에 누적된다")
+    void recordsCallsIntoOneTimerPerMethodAndOutcome() {
+        // Given
+        when(refreshTokenStore.exists("refresh")).thenReturn(true);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            refreshTokenService.exists("refresh");
+        }
+
+        // Then
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                                .tag("class", "RefreshTokenService")
+                                .tag("method", "exists")
+                                .tag("outcome", "success")
+                                .timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.find(ServiceMetricsAspect.METRIC_NAME).timers()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 호출은 예외 종류에 맞는 outcome 타이머에 기록되고 예외는 그대로 전달된다")
+    void recordsFailureOutcome() {
+        // Given
+        when(refreshTokenStore.deleteAllByUserId("bad")).thenThrow(new IllegalArgumentException("bad user"));
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.deleteAll("bad")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                                .tag("method", "deleteAll")
+                                .tag("outcome", "rejected")
+                                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.user_service.config.securiy.revocation;
+
+import com.example.user_service.entity.RevokedToken;
+import com.example.user_service.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenRevocationList revocationList =
+            new TokenRevocationList(repository, new TokenRevocationProperties(null, null, 1000, 0.01), meterRegistry);
+
+    @Test
+    @DisplayName("로그아웃으로 폐기한 토큰만 폐기로 판정되고 DB 에도 저장된다")
+    void revokedJtiIsDetected() {
+        // Given
+        long issuedAt = System.currentTimeMillis();
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(10));
+
+        // When
+        revocationList.revokeToken("jti-1", expiresAt);
+
+        // Then
+        assertThat(revocationList.isRevoked("jti-1", "user-1", issuedAt)).isTrue();
+        assertThat(revocationList.isRevoked("jti-2", "user-1", issuedAt)).isFalse();
+        verify(repository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("사용자 단위 폐기는 그 이전에 발급된 토큰만 막고, 이후 발급된 토큰은 허용한다")
+    void userRevocationAppliesToOlderTokensOnly() {
+        // Given
+        long before = System.currentTimeMillis() - 60_000;
+
+        // When
+        revocationList.revokeUser("user-1");
+        long after = System.currentTimeMillis() / 1000 * 1000 + 1000;
+
+        // Then
+        assertThat(revocationList.isRevoked(null, "user-1", before)).isTrue();
+        assertThat(revocationList.isRevoked(null, "user-1", after)).isFalse();
+        assertThat(revocationList.isRevoked(null, "user-2", before)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 파드가 DB 에 남긴 폐기 항목은 재적재 후 반영되고, 만료된 항목은 제외된다")
+    void reloadPicksUpOtherReplicas() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(repository.findAllByExpiresAtAfter(any())).thenReturn(List.of(
+                new RevokedToken(RevokedToken.Type.JTI, "remote-jti", now, now.plusMinutes(5)),
+                new RevokedToken(RevokedToken.Type.USER, "remote-user", now, now.plusMinutes(10))
+        ));
+        long issuedAt = now.minusMinutes(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // When
+        revocationList.reload();
+
+        // Then
+        assertThat(revocationList.isRevoked("remote-jti", "someone", issuedAt)).isTrue();
+        assertThat(revocationList.isRevoked("other-jti", "remote-user", issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("두 번째 폴링부터는 갱신된 항목만 읽어 합치고, 만료 항목 정리 후에는 전체를 다시 읽는다")
+    void pollsIncrementallyAndRebuildsAfterPurge() {
+        // Given - 첫 폴링은 전체 조회
+        LocalDateTime now = LocalDateTime.now();
+        when(repository.findAllByExpiresAtAfter(any())).thenReturn(List.of(
+                new RevokedToken(RevokedToken.Type.JTI, "first-jti", now, now.plusMinutes(5))));
+        revocationList.reload();
+        when(repository.findAllByUpdatedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(
+                new RevokedToken(RevokedToken.Type.JTI, "second-jti", now, now.plusMinutes(5))));
+
+        // When
+        revocationList.reload();
+
+        // Then - 이전 항목은 유지되고 새 항목이 더해짐
+        assertThat(revocationList.isRevoked("first-jti", null, 0)).isTrue();
+        assertThat(revocationList.isRevoked("second-jti", null, 0)).isTrue();
+        verify(repository, times(1)).findAllByExpiresAtAfter(any());
+        verify(repository, times(1)).findAllByUpdatedAtAfterAndExpiresAtAfter(any(), any());
+
+        // When - 정리 후에는 전체 조회
+        revocationList.purgeExpired();
+
+        // Then
+        verify(repository).deleteExpired(any());
+        verify(repository, times(2)).findAllByExpiresAtAfter(any());
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰은 대부분 Bloom 필터에서 바로 걸러진다")
+    void bloomFilterShortCircuitsNonRevokedTokens() {
+        // Given
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(10));
+        for (int i = 0; i < 500; i++) {
+            revocationList.revokeToken("revoked-" + i, expiresAt);
+        }
+
+        // When
+        int revoked = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (revocationList.isRevoked(UUID.randomUUID().toString(), "user-" + i, 0)) {
+                revoked++;
+            }
+        }
+
+        // Then - 오탐이 있어도 정확 조회에서 걸러지고, 필터 단계 통과율은 목표 오탐률 근처
+        assertThat(revoked).isZero();
+        double falsePositives = meterRegistry.get("token.revocation.checks").tag("result", "false_positive").counter().count();
+        assertThat(falsePositives).isLessThan(10_000 * 0.05);
+        assertThat(revocationList.isRevoked("revoked-42", "user-1", 0)).isTrue();
+    }
+}
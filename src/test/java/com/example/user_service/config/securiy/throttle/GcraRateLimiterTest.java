@@ -0,0 +1,64 @@
+package com.example.user_service.config.securiy.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final GcraRateLimiter limiter = new GcraRateLimiter(5, Duration.ofMinutes(1), 5, now::get);
+
+    @Test
+    @DisplayName("burst 만큼은 연속으로 허용하고, 그 다음 요청은 대기 시간을 돌려준다")
+    void allowsBurstThenRejects() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("user@example.com")).isZero();
+        }
+        long waitNanos = limiter.tryAcquire("user@example.com");
+
+        // Then
+        assertThat(waitNanos).isEqualTo(Duration.ofSeconds(12).toNanos());
+        assertThat(limiter.tryAcquire("other@example.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("배출 간격(기간/허용 횟수)이 지나면 한 번 더 허용된다")
+    void refillsAfterEmissionInterval() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("user@example.com");
+        }
+
+        // When
+        now.addAndGet(Duration.ofSeconds(12).toNanos());
+
+        // Then
+        assertThat(limiter.tryAcquire("user@example.com")).isZero();
+        assertThat(limiter.tryAcquire("user@example.com")).isPositive();
+    }
+
+    @Test
+    @DisplayName("버킷이 다시 가득 찬 키는 유휴 키로 정리된다")
+    void evictsIdleKeys() {
+        // Given
+        limiter.tryAcquire("idle@example.com");
+        limiter.tryAcquire("busy@example.com");
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("busy@example.com");
+        }
+
+        // When
+        now.addAndGet(Duration.ofSeconds(13).toNanos());
+        int evicted = limiter.evictIdle();
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.user_service.config.token;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    @TempDir
+    Path directory;
+
+    private InMemoryRefreshTokenStore opened;
+
+    @Override
+    protected RefreshTokenStore createStore() {
+        opened = new InMemoryRefreshTokenStore(4, MAX_SESSIONS, directory, Clock.systemUTC());
+        return opened;
+    }
+
+    @AfterEach
+    void tearDown() {
+        opened.close();
+    }
+
+    @Test
+    @DisplayName("재시작하면 스냅샷과 로그를 재생해 삭제되지 않은 토큰을 복구한다")
+    void recoversFromSnapshotAndLog() {
+        // Given - 스냅샷 이전 / 이후 변경이 섞여 있음
+        store.save("user-1", "before-snapshot", expiresAt());
+        store.save("user-1", "deleted-after-snapshot", expiresAt());
+        opened.snapshot();
+        store.save("user-2", "after-snapshot", expiresAt());
+        store.delete("deleted-after-snapshot");
+        opened.sync();
+
+        // When - close() 없이 새 인스턴스로 기동 (비정상 종료)
+        InMemoryRefreshTokenStore restarted = new InMemoryRefreshTokenStore(4, MAX_SESSIONS, directory, Clock.systemUTC());
+
+        // Then
+        assertThat(restarted.exists("before-snapshot")).isTrue();
+        assertThat(restarted.exists("after-snapshot")).isTrue();
+        assertThat(restarted.exists("deleted-after-snapshot")).isFalse();
+        assertThat(restarted.size()).isEqualTo(2);
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("사용자 전체 삭제도 재시작 후 복구 결과에 반영된다")
+    void userDeletionSurvivesRestart() {
+        // Given
+        store.save("user-1", "revoked-1", expiresAt());
+        opened.snapshot();
+        store.save("user-1", "revoked-2", expiresAt());
+        store.save("user-2", "kept", expiresAt());
+        store.deleteAllByUserId("user-1");
+        opened.sync();
+
+        // When
+        InMemoryRefreshTokenStore restarted = new InMemoryRefreshTokenStore(4, MAX_SESSIONS, directory, Clock.systemUTC());
+
+        // Then
+        assertThat(restarted.exists("revoked-1")).isFalse();
+        assertThat(restarted.exists("revoked-2")).isFalse();
+        assertThat(restarted.exists("kept")).isTrue();
+        assertThat(restarted.size()).isEqualTo(1);
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("샤드 수를 바꿔 재시작해도 샤드별 로그를 모두 재생해 복구하고, 이후 변경도 다시 복구된다")
+    void recoversAfterShardCountChange() {
+        // Given - 여러 샤드 로그에 나뉘어 기록됨
+        for (int i = 1; i <= 8; i++) {
+            store.save("user-" + i, "refresh-" + i, expiresAt());
+        }
+        store.delete("refresh-1");
+        opened.sync();
+
+        // When - 샤드 수를 바꿔 재시작한 뒤 변경
+        InMemoryRefreshTokenStore resharded = new InMemoryRefreshTokenStore(16, MAX_SESSIONS, directory, Clock.systemUTC());
+        resharded.delete("refresh-2");
+        resharded.sync();
+        InMemoryRefreshTokenStore restarted = new InMemoryRefreshTokenStore(16, MAX_SESSIONS, directory, Clock.systemUTC());
+
+        // Then
+        assertThat(resharded.size()).isEqualTo(6);
+        assertThat(restarted.exists("refresh-1")).isFalse();
+        assertThat(restarted.exists("refresh-2")).isFalse();
+        assertThat(restarted.exists("refresh-8")).isTrue();
+        assertThat(restarted.size()).isEqualTo(6);
+        resharded.close();
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("로그 마지막 줄이 잘려 있어도 나머지를 복구한다")
+    void skipsTruncatedLogLine() throws Exception {
+        // Given
+        store.save("user-1", "intact", expiresAt());
+        opened.sync();
+        try (DirectoryStream<Path> logs = Files.newDirectoryStream(directory, "tokens-*.log")) {
+            for (Path log : logs) {
+                Files.writeString(log, "S\t123", StandardOpenOption.APPEND);
+            }
+        }
+
+        // When
+        InMemoryRefreshTokenStore restarted = new InMemoryRefreshTokenStore(4, MAX_SESSIONS, directory, Clock.systemUTC());
+
+        // Then
+        assertThat(restarted.exists("intact")).isTrue();
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 조회되지 않고 정리 대상이 된다")
+    void expiredTokensAreEvicted() {
+        // Given
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        MutableClock clock = new MutableClock(now);
+        InMemoryRefreshTokenStore ttlStore = new InMemoryRefreshTokenStore(4, MAX_SESSIONS, null, clock);
+        ttlStore.save("user-1", "short", now.plus(Duration.ofMinutes(10)));
+        ttlStore.save("user-1", "long", now.plus(Duration.ofHours(24)));
+
+        // When
+        clock.now = now.plus(Duration.ofMinutes(11));
+        int evicted = ttlStore.evictExpired();
+
+        // Then
+        assertThat(ttlStore.exists("short")).isFalse();
+        assertThat(ttlStore.exists("long")).isTrue();
+        assertThat(evicted).isEqualTo(1);
+        assertThat(ttlStore.size()).isEqualTo(1);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.user_service.config.token;
+
+import com.example.user_service.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+class JpaRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    protected RefreshTokenStore createStore() {
+        return new JpaRefreshTokenStore(refreshTokenRepository, null, new TransactionTemplate(transactionManager), MAX_SESSIONS);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.user_service.config.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 {@link RefreshTokenStore} 구현이 지켜야 하는 동작. 구현별 테스트가 상속해 실행합니다.
+ */
+abstract class RefreshTokenStoreContractTest {
+
+    protected static final int MAX_SESSIONS = 3;
+
+    protected RefreshTokenStore store;
+
+    /**
+     * 사용자당 세션 수를 {@link #MAX_SESSIONS} 로 제한한 저장소를 만듭니다.
+     */
+    protected abstract RefreshTokenStore createStore();
+
+    @BeforeEach
+    void setUpStore() {
+        store = createStore();
+    }
+
+    protected Instant expiresAt() {
+        return Instant.now().plus(Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("저장한 토큰은 조회되고 저장하지 않은 토큰은 조회되지 않는다")
+    void savedTokenExists() {
+        // Given
+        store.save("user-1", "refresh-a", expiresAt());
+
+        // When & Then
+        assertThat(store.exists("refresh-a")).isTrue();
+        assertThat(store.exists("refresh-unknown")).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 저장되어 있어도 조회되지 않는다")
+    void expiredTokenDoesNotExist() {
+        // Given
+        store.save("user-1", "refresh-expired", Instant.now().minusSeconds(1));
+        store.save("user-1", "refresh-valid", expiresAt());
+
+        // When & Then
+        assertThat(store.exists("refresh-expired")).isFalse();
+        assertThat(store.exists("refresh-valid")).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제한 토큰은 더 이상 조회되지 않고, 두 번째 삭제는 false 를 반환한다")
+    void deletedTokenNoLongerExists() {
+        // Given
+        store.save("user-1", "refresh-b", expiresAt());
+
+        // When
+        boolean first = store.delete("refresh-b");
+        boolean second = store.delete("refresh-b");
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(store.exists("refresh-b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 토큰은 서로 독립적으로 교체된다")
+    void tokensOfSameUserAreIndependent() {
+        // Given
+        store.save("user-1", "refresh-c1", expiresAt());
+        store.save("user-1", "refresh-c2", expiresAt());
+
+        // When - c1 을 c3 로 교체
+        store.delete("refresh-c1");
+        store.save("user-1", "refresh-c3", expiresAt());
+
+        // Then
+        assertThat(store.exists("refresh-c1")).isFalse();
+        assertThat(store.exists("refresh-c2")).isTrue();
+        assertThat(store.exists("refresh-c3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자 전체 삭제는 해당 사용자의 토큰만 지우고 지운 수를 반환한다")
+    void deleteAllByUserIdRemovesOnlyThatUser() {
+        // Given
+        store.save("user-1", "refresh-d1", expiresAt());
+        store.save("user-1", "refresh-d2", expiresAt());
+        store.save("user-2", "refresh-d3", expiresAt());
+
+        // When
+        int deleted = store.deleteAllByUserId("user-1");
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(store.exists("refresh-d1")).isFalse();
+        assertThat(store.exists("refresh-d2")).isFalse();
+        assertThat(store.exists("refresh-d3")).isTrue();
+        assertThat(store.deleteAllByUserId("user-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자당 세션 수를 넘기면 가장 오래된 토큰부터 삭제되고 다른 사용자에는 영향이 없다")
+    void evictsOldestBeyondMaxSessions() {
+        // Given
+        store.save("user-2", "refresh-other", expiresAt());
+        for (int i = 1; i <= MAX_SESSIONS; i++) {
+            store.save("user-1", "refresh-e" + i, expiresAt());
+        }
+
+        // When - 한도를 넘는 로그인
+        store.save("user-1", "refresh-e" + (MAX_SESSIONS + 1), expiresAt());
+
+        // Then
+        assertThat(store.exists("refresh-e1")).isFalse();
+        for (int i = 2; i <= MAX_SESSIONS + 1; i++) {
+            assertThat(store.exists("refresh-e" + i)).isTrue();
+        }
+        assertThat(store.exists("refresh-other")).isTrue();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.user_service.config.token;
+
+import com.example.user_service.entity.RefreshToken;
+import com.example.user_service.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 워커 스레드가 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenWriteBehindQueueTest {
+
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.now().plusDays(1);
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RefreshTokenWriteBehindQueue queue(int capacity) {
+        return queue(capacity, null);
+    }
+
+    private RefreshTokenWriteBehindQueue queue(int capacity, Integer maxSessionsPerUser) {
+        RefreshTokenWriteBehindProperties properties =
+                new RefreshTokenWriteBehindProperties(true, 100, Duration.ofMillis(300), capacity);
+        return new RefreshTokenWriteBehindQueue(refreshTokenRepository, transactionManager, properties,
+                new RefreshTokenStoreProperties(null, maxSessionsPerUser, null), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("큐에 들어간 토큰은 커밋 전에도 조회되고, 종료 시 모두 저장된다")
+    void pendingTokensAreVisibleAndFlushedOnStop() {
+        // Given
+        RefreshTokenWriteBehindQueue queue = queue(100);
+        queue.start();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(new RefreshToken("user-" + i, "refresh-" + i, EXPIRES_AT));
+        }
+        boolean visibleBeforeFlush = queue.isPending("refresh-3") || refreshTokenRepository.existsByRefresh("refresh-3");
+        queue.stop();
+
+        // Then
+        assertThat(visibleBeforeFlush).isTrue();
+        assertThat(refreshTokenRepository.count()).isEqualTo(10);
+        assertThat(queue.isPending("refresh-3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장 전에 취소(재발급으로 교체)된 토큰은 DB 에 남지 않는다")
+    void cancelledTokenIsNotPersisted() {
+        // Given
+        RefreshTokenWriteBehindQueue queue = queue(100);
+        queue.start();
+        queue.enqueue(new RefreshToken("user-1", "old-refresh", EXPIRES_AT));
+        queue.enqueue(new RefreshToken("user-1", "other-refresh", EXPIRES_AT));
+
+        // When
+        queue.cancel("old-refresh");
+        queue.stop();
+
+        // Then
+        assertThat(refreshTokenRepository.existsByRefresh("old-refresh")).isFalse();
+        assertThat(refreshTokenRepository.existsByRefresh("other-refresh")).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 번에 커밋하는 배치 안에서도 사용자마다 최신 세션만 남기고 오래된 토큰을 지운다")
+    void trimsSessionsPerUserWhenFlushing() {
+        // Given
+        RefreshTokenWriteBehindQueue queue = queue(100, 2);
+        queue.start();
+
+        // When - 한 배치에 user-1 토큰 4개, user-2 토큰 1개
+        for (int i = 1; i <= 4; i++) {
+            queue.enqueue(new RefreshToken("user-1", "user-1-refresh-" + i, EXPIRES_AT));
+        }
+        queue.enqueue(new RefreshToken("user-2", "user-2-refresh-1", EXPIRES_AT));
+        queue.stop();
+
+        // Then
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getRefresh)
+                .containsExactlyInAnyOrder("user-1-refresh-3", "user-1-refresh-4", "user-2-refresh-1");
+    }
+
+    @Test
+    @DisplayName("큐가 동작 중이 아니면 호출 스레드에서 바로 저장한다")
+    void savesSynchronouslyWhenNotRunning() {
+        // Given
+        RefreshTokenWriteBehindQueue queue = queue(1);
+
+        // When
+        queue.enqueue(new RefreshToken("user-1", "sync-refresh", EXPIRES_AT));
+
+        // Then
+        assertThat(queue.isPending("sync-refresh")).isFalse();
+        assertThat(refreshTokenRepository.existsByRefresh("sync-refresh")).isTrue();
+    }
+}
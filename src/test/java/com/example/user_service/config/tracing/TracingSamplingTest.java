@@ -0,0 +1,108 @@
+package com.example.user_service.config.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracingSamplingTest {
+
+    private final TracingSamplingProperties properties = new TracingSamplingProperties(
+            0.5f, 1000, true, Duration.ofMillis(500),
+            List.of(new TracingSamplingProperties.Rule("/login", 1.0f),
+                    new TracingSamplingProperties.Rule("/internal/**", 0.01f),
+                    new TracingSamplingProperties.Rule("/actuator/**", 0.0f)),
+            null);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(TracingConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("management.tracing.enabled=false");
+
+    @Test
+    @DisplayName("tail-keep 이 켜져 있으면(기본) 샘플링되지 않은 스팬도 로컬에서 기록해 에러/느린 스팬을 골라낸다")
+    void tailKeepRecordsUnsampledSpansByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasBean("alwaysSampleLocalCustomizer");
+            assertThat(context).hasSingleBean(TailKeepSpanHandler.class);
+        });
+    }
+
+    @Test
+    @DisplayName("tail-keep 을 끄면 헤드 샘플링에서 제외된 요청은 로컬에서도 기록하지 않는다")
+    void tailKeepDisabledSkipsLocalRecording() {
+        contextRunner.withPropertyValues("tracing.sampling.tail-keep=false")
+                     .run(context -> {
+                         assertThat(context).doesNotHaveBean("alwaysSampleLocalCustomizer");
+                         assertThat(context).doesNotHaveBean(TailKeepSpanHandler.class);
+                         assertThat(context).hasSingleBean(Sampler.class);
+                     });
+    }
+
+    @Test
+    @DisplayName("경로 규칙은 위에서부터 첫 매칭이 적용되고, 매칭이 없으면 기본 확률을 사용한다")
+    void probabilityFollowsFirstMatchingRule() {
+        // Given
+        EndpointSampler sampler = new EndpointSampler(properties);
+
+        // When & Then
+        assertThat(sampler.probabilityFor("/login")).isEqualTo(1.0f);
+        assertThat(sampler.probabilityFor("/internal/api/users/1")).isEqualTo(0.01f);
+        assertThat(sampler.probabilityFor("/actuator/prometheus")).isEqualTo(0.0f);
+        assertThat(sampler.probabilityFor("/api/users/1")).isEqualTo(0.5f);
+        assertThat(sampler.probabilityFor(null)).isEqualTo(0.5f);
+    }
+
+    @Test
+    @DisplayName("규칙에 매칭되지 않는 요청은 기본 확률에 따라 traceId 별로 샘플링된다")
+    void isSampledAppliesProbability() {
+        // Given
+        EndpointSampler sampler = new EndpointSampler(properties);
+        Random random = new Random(42);
+
+        // When
+        long sampled = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (sampler.isSampled(random.nextLong())) {
+                sampled++;
+            }
+        }
+
+        // Then
+        assertThat(sampled).isBetween(400L, 600L);
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 스팬은 에러이거나 느린 경우에만 전송 대상으로 남는다")
+    void tailKeepRetainsErrorAndSlowSpans() {
+        // Given
+        TailKeepSpanHandler handler = new TailKeepSpanHandler(Duration.ofMillis(500), new SimpleMeterRegistry());
+        TraceContext unsampled = TraceContext.newBuilder().traceId(1L).spanId(2L).sampled(false).build();
+        TraceContext sampled = TraceContext.newBuilder().traceId(1L).spanId(3L).sampled(true).build();
+
+        // When & Then
+        assertThat(handler.end(unsampled, span(10, null), SpanHandler.Cause.FINISHED)).isFalse();
+        assertThat(handler.end(unsampled, span(600, null), SpanHandler.Cause.FINISHED)).isTrue();
+        assertThat(handler.end(unsampled, span(10, new IllegalStateException()), SpanHandler.Cause.FINISHED)).isTrue();
+        assertThat(handler.end(sampled, span(10, null), SpanHandler.Cause.FINISHED)).isTrue();
+    }
+
+    private MutableSpan span(long durationMillis, Throwable error) {
+        MutableSpan span = new MutableSpan();
+        span.startTimestamp(1_000_000L);
+        span.finishTimestamp(1_000_000L + durationMillis * 1_000);
+        span.error(error);
+        return span;
+    }
+}
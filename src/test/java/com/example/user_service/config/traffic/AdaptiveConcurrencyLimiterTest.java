@@ -0,0 +1,97 @@
+package com.example.user_service.config.traffic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final LoadSheddingProperties properties =
+            new LoadSheddingProperties(true, 20, 5, 100, 1.5, 0.2, 600, 0.2);
+
+    @Test
+    @DisplayName("지연 시간이 일정하고 한도를 충분히 쓰면 한도가 늘어난다")
+    void growsWhileLatencyIsStable() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        // When
+        for (int round = 0; round < 50; round++) {
+            saturateAndRelease(limiter, 10 * MILLIS);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 기준선보다 크게 늘어나면 한도가 줄어든다")
+    void shrinksWhenLatencyRises() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        for (int round = 0; round < 20; round++) {
+            saturateAndRelease(limiter, 10 * MILLIS);
+        }
+        int before = limiter.getLimit();
+
+        // When - DB 지연으로 응답 시간이 5배 (기준선이 따라 올라가기 전)
+        for (int round = 0; round < 3; round++) {
+            saturateAndRelease(limiter, 50 * MILLIS);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isLessThan(before);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("일반 요청은 예약분을 남기고 거절되지만 우선 요청은 전체 한도까지 받는다")
+    void reservesCapacityForPriorityRequests() {
+        // Given - 한도 20, 일반 요청은 16 까지
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        for (int i = 0; i < 16; i++) {
+            assertThat(limiter.tryAcquire(false)).isTrue();
+        }
+
+        // When
+        boolean normal = limiter.tryAcquire(false);
+        int priorityAccepted = 0;
+        while (limiter.tryAcquire(true)) {
+            priorityAccepted++;
+        }
+
+        // Then
+        assertThat(normal).isFalse();
+        assertThat(priorityAccepted).isEqualTo(4);
+        assertThat(limiter.getInflight()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("5xx 로 끝난 요청은 한도를 10% 줄인다")
+    void backsOffOnDroppedRequests() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        limiter.tryAcquire(false);
+
+        // When
+        limiter.release(10 * MILLIS, true);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    // 현재 한도까지 요청을 채운 뒤 같은 지연 시간으로 모두 완료시킵니다.
+    private void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire(true)) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.user_service.config.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkheadFilter filter = new BulkheadFilter(bulkheads(1), new ObjectMapper());
+
+    private Map<TrafficClass, Bulkhead> bulkheads(int maxConcurrent) {
+        Map<TrafficClass, Bulkhead> bulkheads = new EnumMap<>(TrafficClass.class);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            BulkheadProperties.Compartment compartment = new BulkheadProperties.Compartment(maxConcurrent, Duration.ZERO);
+            bulkheads.put(trafficClass, new Bulkhead(trafficClass, compartment, meterRegistry));
+        }
+        return bulkheads;
+    }
+
+    @Test
+    @DisplayName("외부 API 구획이 가득 차면 외부 요청은 503 으로 거절되고 내부 요청은 그대로 처리된다")
+    void publicSaturationDoesNotAffectInternal() throws Exception {
+        // Given - /api/** 구획의 유일한 자리를 점유
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request("/api/users/1"), new MockHttpServletResponse(), blocking);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        MockHttpServletResponse publicResponse = new MockHttpServletResponse();
+        filter.doFilter(request("/api/users/2"), publicResponse, (request, response) -> { });
+        MockHttpServletResponse internalResponse = new MockHttpServletResponse();
+        filter.doFilter(request("/internal/api/users/abc"), internalResponse, (request, response) -> { });
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(publicResponse.getStatus()).isEqualTo(503);
+        assertThat(publicResponse.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(publicResponse.getContentAsString()).isEqualTo("{\"message\":\"요청이 많아 잠시 후 다시 시도해 주세요.\"}");
+        assertThat(internalResponse.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("bulkhead.calls").tag("class", "api").tag("result", "rejected").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("bulkhead.concurrent.calls").tag("class", "api").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기로 넘어간 요청은 필터가 돌아온 뒤에도 응답이 끝날 때까지 구획 자리를 유지한다")
+    void asyncRequestHoldsPermitUntilComplete() throws Exception {
+        // Given - 일괄 등록 스트림처럼 비동기 처리를 시작하고 돌아오는 요청
+        MockHttpServletRequest streaming = request("/internal/api/users/bulk");
+        streaming.setAsyncSupported(true);
+        filter.doFilter(streaming, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        // When
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        filter.doFilter(request("/internal/api/users/abc"), rejectedResponse, (request, response) -> { });
+        streaming.getAsyncContext().complete();
+        MockHttpServletResponse acceptedResponse = new MockHttpServletResponse();
+        filter.doFilter(request("/internal/api/users/abc"), acceptedResponse, (request, response) -> { });
+
+        // Then
+        assertThat(rejectedResponse.getStatus()).isEqualTo(503);
+        assertThat(acceptedResponse.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("bulkhead.concurrent.calls").tag("class", "internal").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 처리 중에는 트래픽 분류가 스레드에 기록되고 끝나면 지워진다")
+    void bindsTrafficClassDuringRequest() throws Exception {
+        // Given
+        AtomicReference<TrafficClass> seen = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request("/login"), new MockHttpServletResponse(), (request, response) -> seen.set(TrafficClass.current()));
+
+        // Then
+        assertThat(seen.get()).isEqualTo(TrafficClass.LOGIN);
+        assertThat(TrafficClass.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("actuator 등 분류되지 않는 경로는 제한하지 않는다")
+    void unclassifiedPathIsNotLimited() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("/actuator/health"), response, (req, res) -> { });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.find("bulkhead.calls").tag("result", "permitted").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    private MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.user_service.config.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<TrafficClass, AdaptiveConcurrencyLimiter> limiters = limiters();
+    private final LoadSheddingFilter filter = new LoadSheddingFilter(limiters, meterRegistry, new ObjectMapper());
+
+    private static Map<TrafficClass, AdaptiveConcurrencyLimiter> limiters() {
+        LoadSheddingProperties properties = new LoadSheddingProperties(true, 40, 10, 200, 1.5, 0.2, 600, 0.2);
+        Map<TrafficClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(TrafficClass.class);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            limiters.put(trafficClass, new AdaptiveConcurrencyLimiter(properties));
+        }
+        return limiters;
+    }
+
+    @Test
+    @DisplayName("벌크헤드가 구획 포화로 돌려보낸 503 은 부하 차단 한도를 줄이지 않는다")
+    void bulkheadRejectionsDoNotShrinkLimit() throws Exception {
+        // Given - /api/** 구획의 유일한 자리를 미리 점유
+        Map<TrafficClass, Bulkhead> bulkheads = new EnumMap<>(TrafficClass.class);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            bulkheads.put(trafficClass, new Bulkhead(trafficClass,
+                    new BulkheadProperties.Compartment(1, Duration.ZERO), meterRegistry));
+        }
+        assertThat(bulkheads.get(TrafficClass.API).tryAcquire()).isTrue();
+        BulkheadFilter bulkheadFilter = new BulkheadFilter(bulkheads, new ObjectMapper());
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request("/api/users/1"), response,
+                    (request, chainResponse) -> bulkheadFilter.doFilter(request, chainResponse, (r, s) -> { }));
+            assertThat(response.getStatus()).isEqualTo(503);
+        }
+
+        // Then
+        AdaptiveConcurrencyLimiter limiter = limiters.get(TrafficClass.API);
+        assertThat(limiter.getLimit()).isEqualTo(40);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그인 요청의 5xx 는 로그인 한도만 줄이고 내부 API 한도에는 영향을 주지 않는다")
+    void loginDropsDoNotAffectInternalLimit() throws Exception {
+        // When
+        for (int i = 0; i < 10; i++) {
+            filter.doFilter(request("/login"), new MockHttpServletResponse(),
+                    (request, response) -> ((MockHttpServletResponse) response).setStatus(500));
+        }
+
+        // Then
+        assertThat(limiters.get(TrafficClass.LOGIN).getLimit()).isLessThan(40);
+        assertThat(limiters.get(TrafficClass.INTERNAL).getLimit()).isEqualTo(40);
+        assertThat(meterRegistry.get("load.shedding.limit").tag("class", "internal").gauge().value()).isEqualTo(40.0);
+        assertThat(meterRegistry.get("load.shedding.requests")
+                                .tag("class", "login").tag("priority", "normal").tag("decision", "accepted")
+                                .counter().count()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("비동기로 넘어간 요청은 응답이 끝날 때까지 동시 실행 수에 남고, 끝나도 RTT 샘플로 쓰지 않는다")
+    void asyncRequestHoldsSlotWithoutRttSample() throws Exception {
+        // Given
+        MockHttpServletRequest streaming = request("/internal/api/users/bulk");
+        streaming.setAsyncSupported(true);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(TrafficClass.INTERNAL);
+
+        // When
+        filter.doFilter(streaming, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+        int inflightWhileStreaming = limiter.getInflight();
+        streaming.getAsyncContext().complete();
+
+        // Then
+        assertThat(inflightWhileStreaming).isEqualTo(1);
+        assertThat(limiter.getInflight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("내부 API 도 critical 이 아니면 예약분을 쓰지 못하고, critical 요청은 예약분으로 처리된다")
+    void internalRequestsKeepReserveForCritical() throws Exception {
+        // Given - 내부 한도 40 중 일반 요청 몫(80%)을 모두 점유
+        AdaptiveConcurrencyLimiter limiter = limiters.get(TrafficClass.INTERNAL);
+        for (int i = 0; i < 32; i++) {
+            assertThat(limiter.tryAcquire(false)).isTrue();
+        }
+
+        // When
+        MockHttpServletResponse normalResponse = new MockHttpServletResponse();
+        filter.doFilter(request("/internal/api/users/abc"), normalResponse, (request, response) -> { });
+        MockHttpServletRequest critical = request("/internal/api/users/abc");
+        critical.addHeader(LoadSheddingFilter.PRIORITY_HEADER, "critical");
+        MockHttpServletResponse criticalResponse = new MockHttpServletResponse();
+        filter.doFilter(critical, criticalResponse, (request, response) -> { });
+
+        // Then
+        assertThat(normalResponse.getStatus()).isEqualTo(503);
+        assertThat(criticalResponse.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("load.shedding.requests")
+                                .tag("class", "internal").tag("priority", "normal").tag("decision", "rejected")
+                                .counter().count()).isEqualTo(1.0);
+    }
+
+    private MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.user_service.config.warmup;
+
+import com.example.user_service.config.securiy.jwt.JWTUtil;
+import com.example.user_service.repository.PaymentMethodRepository;
+import com.example.user_service.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+// 워밍업이 직접 트랜잭션을 열고 롤백하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WarmUpRunnerTest {
+
+    private static final String SECRET = "test-v3ryLo0ngAndS3cretKeyForJwtTokenGenerationMustBeAtLeast256Bits";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<DataSource> dataSources;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApplicationInfoManager applicationInfoManager = mock(ApplicationInfoManager.class);
+    private final List<String> stagesBeforeUp = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // UP 으로 바뀌는 시점에 이미 기록된 단계를 남겨 순서를 확인합니다.
+        doAnswer(invocation -> {
+            meterRegistry.find("warmup.duration").timers().stream()
+                         .filter(timer -> timer.count() > 0)
+                         .map(timer -> timer.getId().getTag("stage"))
+                         .forEach(stagesBeforeUp::add);
+            return null;
+        }).when(applicationInfoManager).setInstanceStatus(any());
+    }
+
+    private WarmUpRunner runner(JWTUtil jwtUtil) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("applicationInfoManager", applicationInfoManager);
+        WarmUpProperties properties = new WarmUpProperties(true, Duration.ofSeconds(30), 5, 5, 1, 20, 0);
+        return new WarmUpRunner(properties, jwtUtil, new BCryptPasswordEncoder(4), new ObjectMapper(), userRepository,
+                paymentMethodRepository, transactionManager, dataSources,
+                beanFactory.getBeanProvider(ApplicationInfoManager.class), applicationContext, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("모든 단계를 마친 뒤에 Eureka 상태를 UP 으로 바꾸고, 쓰기 워밍업은 롤백되어 데이터가 남지 않는다")
+    void marksUpAfterAllStagesAndRollsBackWrites() {
+        // When
+        runner(new JWTUtil(SECRET)).run(new DefaultApplicationArguments());
+
+        // Then
+        verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+        assertThat(stagesBeforeUp).contains("jwt", "json", "bcrypt", "repository", "http", "total");
+        Timer repository = meterRegistry.get("warmup.duration").tag("stage", "repository").timer();
+        assertThat(repository.count()).isEqualTo(1);
+        assertThat(userRepository.count()).isZero();
+        assertThat(paymentMethodRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("단계 중에 오류가 나도 기동을 막지 않고 UP 으로 바꾼다")
+    void marksUpEvenWhenStageFails() {
+        // Given
+        JWTUtil failingJwtUtil = spy(new JWTUtil(SECRET));
+        doThrow(new IllegalStateException("signing failed"))
+                .when(failingJwtUtil).createJwt(anyString(), anyString(), anyString(), anyLong());
+
+        // When
+        runner(failingJwtUtil).run(new DefaultApplicationArguments());
+
+        // Then
+        verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+        assertThat(stagesBeforeUp).containsExactly("total");
+        assertThat(userRepository.count()).isZero();
+    }
+}
@@ -2,9 +2,12 @@ package com.example.user_service.controller;
 
 import com.example.user_service.dto.request.UserCreateRequest;
 import com.example.user_service.dto.request.UserPasswordChangeRequest;
+import com.example.user_service.dto.request.UserSearchRequest;
 import com.example.user_service.dto.request.UserUpdateRequest;
 import com.example.user_service.dto.response.UserCreateResponse;
 import com.example.user_service.dto.response.UserProfileResponse;
+import com.example.user_service.dto.response.UserSearchResponse;
+import com.example.user_service.dto.response.UserSummaryResponse;
 import com.example.user_service.dto.response.UserUpdateResponse;
 import com.example.user_service.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,6 +20,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -73,6 +78,21 @@ class UserControllerTest {
         verify(userService, times(1)).deleteUser(userId, TEST_UUID);
     }
 
+    @Test
+    @DisplayName("본인 헤더로 전체 세션 폐기 요청을 보내면 204 No Content 응답을 받는다")
+    void revokeSessions_withValidId_returns204NoContent() throws Exception {
+        // Given
+        Long userId = 1L;
+        doNothing().when(userService).revokeSessions(userId, TEST_UUID);
+
+        // When & Then
+        mockMvc.perform(delete("/api/users/{id}/sessions", userId)
+                       .header("X-User-Id", TEST_UUID))
+               .andExpect(status().isNoContent());
+
+        verify(userService, times(1)).revokeSessions(userId, TEST_UUID);
+    }
+
     @Test
     @DisplayName("유효한 정보와 헤더로 사용자 업데이트 요청을 보내면 200 OK 응답을 받는다")
     void updateUser_withValidUserInfo_returns200Ok() throws Exception {
@@ -147,4 +167,49 @@ class UserControllerTest {
         verify(userService, times(1)).changePassword(eq(userId), any(UserPasswordChangeRequest.class), eq(TEST_UUID));
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("관리자가 사용자 검색 요청을 보내면 200 OK 와 다음 커서를 받는다")
+    void searchUsers_withAdminRole_returns200Ok() throws Exception {
+        // Given
+        UserSummaryResponse summary = new UserSummaryResponse(10L, TEST_UUID, "driver@example.com", "Driver", "01012345678", "ROLE_DRIVER", null);
+        when(userService.searchUsers(any(UserSearchRequest.class)))
+                .thenReturn(new UserSearchResponse(List.of(summary), 10L, null, true));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/search")
+                       .header("X-Role", "ROLE_ADMIN")
+                       .param("role", "ROLE_DRIVER")
+                       .param("emailPrefix", "driver")
+                       .param("size", "1"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.users[0].id").value(10L))
+               .andExpect(jsonPath("$.nextCursor").value(10L))
+               .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("가입일 범위 검색에 cursor 만 보내고 cursorCreatedAt 을 빠뜨리면 400 Bad Request 응답을 받는다")
+    void searchUsers_withIncompleteCreatedAtCursor_returns400BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users/search")
+                       .header("X-Role", "ROLE_ADMIN")
+                       .param("createdFrom", "2024-01-01T00:00:00")
+                       .param("cursor", "10"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("가입일 범위 검색은 cursor 와 cursorCreatedAt 을 함께 보내야 합니다."));
+
+        verify(userService, never()).searchUsers(any(UserSearchRequest.class));
+    }
+
+    @Test
+    @DisplayName("관리자가 아닌 사용자가 검색 요청을 보내면 403 Forbidden 응답을 받는다")
+    void searchUsers_withoutAdminRole_returns403Forbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users/search")
+                       .header("X-Role", "ROLE_USER"))
+               .andExpect(status().isForbidden());
+
+        verify(userService, never()).searchUsers(any(UserSearchRequest.class));
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.user_service.entity;
+
+import com.example.user_service.repository.PaymentMethodRepository;
+import com.example.user_service.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 두 트랜잭션(영속성 컨텍스트)이 같은 행을 고치는 상황을 보기 위해 테스트 트랜잭션 없이 실행하고, 실행된 UPDATE 문을 SqlRecorder 로 잡습니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.user_service.entity.EntityVersioningTest$SqlRecorder")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityVersioningTest {
+
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        userId = userRepository.save(User.builder()
+                                         .email("version@example.com")
+                                         .password("password")
+                                         .username("version")
+                                         .role("ROLE_USER")
+                                         .phoneNumber("01000000000")
+                                         .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentMethodRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    /**
+     * 첫 트랜잭션이 사용자를 읽은 뒤 멈춘 사이에 두 번째 트랜잭션이 같은 사용자를 수정해 커밋하고, 그다음 첫 트랜잭션이 이어서 커밋합니다.
+     */
+    private void interleave(Consumer<User> first, Consumer<User> second) throws InterruptedException {
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        CompletableFuture<Void> firstTransaction = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            loaded.countDown();
+            try {
+                committed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            first.accept(user);
+        }));
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+        transactionTemplate.executeWithoutResult(status -> second.accept(userRepository.findById(userId).orElseThrow()));
+        committed.countDown();
+        firstTransaction.join();
+    }
+
+    @Test
+    @DisplayName("두 트랜잭션이 같은 사용자를 수정하면 나중에 커밋한 쪽이 OptimisticLockingFailureException(409) 으로 실패한다")
+    void concurrentUserEditsConflict() {
+        // When & Then
+        assertThatThrownBy(() -> interleave(
+                user -> user.setPassword("stale-password"),
+                user -> user.update("renamed", "01011112222")))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+
+        User saved = userRepository.findById(userId).orElseThrow();
+        assertThat(saved.getUsername()).isEqualTo("renamed");
+        assertThat(saved.getPassword()).isEqualTo("password");
+        assertThat(saved.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카드 등록은 사용자 버전을 올리지 않아 동시에 커밋된 프로필 수정과 충돌하지 않는다")
+    void cardRegistrationDoesNotConflictWithProfileEdit() throws InterruptedException {
+        // When - 카드 등록 트랜잭션이 사용자를 읽은 뒤 프로필 수정이 먼저 커밋됨
+        interleave(user -> {
+            PaymentMethod card = PaymentMethod.builder()
+                                              .user(user)
+                                              .billingKey("version-key")
+                                              .cardIssuer("Visa")
+                                              .expiryDate("12/30")
+                                              .cardNumberMasked("4111-XXXX-XXXX-1111")
+                                              .isDefault(true)
+                                              .build();
+            user.addPaymentMethod(card);
+            paymentMethodRepository.save(card);
+        }, user -> user.update("renamed", "01011112222"));
+
+        // Then
+        User saved = userRepository.findById(userId).orElseThrow();
+        assertThat(saved.getVersion()).isEqualTo(1);
+        assertThat(saved.getUsername()).isEqualTo("renamed");
+        assertThat(paymentMethodRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("@DynamicUpdate 로 UPDATE 문에는 바뀐 컬럼과 버전만 포함된다")
+    void dynamicUpdateWritesOnlyChangedColumns() {
+        // Given
+        SqlRecorder.STATEMENTS.clear();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow().setPassword("new-password"));
+
+        // Then
+        List<String> updates = SqlRecorder.STATEMENTS.stream()
+                                                     .filter(sql -> sql.toLowerCase().startsWith("update users"))
+                                                     .toList();
+        assertThat(updates).hasSize(1);
+        String set = updates.get(0).toLowerCase();
+        set = set.substring(set.indexOf(" set "), set.indexOf(" where "));
+        assertThat(set).contains("password", "version")
+                       .doesNotContain("email", "username", "phone_number", "role", "user_id");
+    }
+}
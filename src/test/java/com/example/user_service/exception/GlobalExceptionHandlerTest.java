@@ -1,9 +1,11 @@
 package com.example.user_service.exception;
 
+import com.example.user_service.entity.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,4 +42,18 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().message()).isEqualTo("Test phone number already exists");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("낙관적 락 충돌 발생 시 409 Conflict를 반환한다")
+    void handleOptimisticLockingFailureException_returns409Conflict() {
+        // Given
+        ObjectOptimisticLockingFailureException ex = new ObjectOptimisticLockingFailureException(User.class, 1L);
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleOptimisticLockingFailureException(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.user_service.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트 하나의 응답 시간(ns)을 모아 p50/p95/p99 를 계산합니다.
+ */
+class LatencyRecorder {
+
+    private final String endpoint;
+    private final AtomicLong errors = new AtomicLong();
+    private long[] samples = new long[1024];
+    private int count;
+
+    LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
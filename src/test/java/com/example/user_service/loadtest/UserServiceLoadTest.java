@@ -0,0 +1,260 @@
+package com.example.user_service.loadtest;
+
+import com.example.user_service.benchmark.BenchmarkReport;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 애플리케이션을 내장 H2 로 띄우고 실제 HTTP 로 트래픽 믹스를 흘려
+ * 엔드포인트별 처리량과 p50/p95/p99 를 build/reports/load-test/load-test.txt 에 기록합니다.
+ * <p>
+ * 실행: ./gradlew loadTest -Dloadtest.threads=8 -Dloadtest.durationSeconds=30
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserServiceLoadTest {
+
+    private static final String PASSWORD = "password123";
+
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 8);
+    private static final int USERS_PER_THREAD = Integer.getInteger("loadtest.usersPerThread", 5);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+                                                    .connectTimeout(Duration.ofSeconds(5))
+                                                    .build();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+    @Test
+    @DisplayName("가입/로그인/재발급/내부 조회/기본 결제수단 조회/카드 등록 믹스의 지연 분포를 기록한다")
+    void trafficMix() throws Exception {
+        for (String endpoint : List.of("signup", "login", "reissue", "internal-user", "default-payment", "card-register")) {
+            recorders.put(endpoint, new LatencyRecorder(endpoint));
+        }
+
+        // 1. 워밍업 (기록하지 않음)
+        runPhase(WARMUP_SECONDS, false);
+
+        // 2. 측정 구간
+        long start = System.nanoTime();
+        runPhase(DURATION_SECONDS, true);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        BenchmarkReport report = BenchmarkReport.create("load-test")
+                                                .line("threads", THREADS)
+                                                .line("duration_seconds", DURATION_SECONDS);
+        long total = 0;
+        for (LatencyRecorder recorder : recorders.values()) {
+            total += recorder.count();
+            report.line(recorder.endpoint() + ".count", recorder.count())
+                  .line(recorder.endpoint() + ".errors", recorder.errors())
+                  .line(recorder.endpoint() + ".throughput_rps", String.format("%.1f", recorder.count() / elapsedSeconds))
+                  .line(recorder.endpoint() + ".p50_ms", String.format("%.2f", recorder.percentileMillis(50)))
+                  .line(recorder.endpoint() + ".p95_ms", String.format("%.2f", recorder.percentileMillis(95)))
+                  .line(recorder.endpoint() + ".p99_ms", String.format("%.2f", recorder.percentileMillis(99)));
+        }
+        report.line("total.throughput_rps", String.format("%.1f", total / elapsedSeconds))
+              .write();
+
+        assertThat(total).isPositive();
+    }
+
+    private void runPhase(int seconds, boolean record) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    // 재발급(RTR) 충돌을 피하기 위해 스레드마다 자기 사용자 집합을 사용합니다.
+                    List<VirtualUser> users = new ArrayList<>();
+                    for (int u = 0; u < USERS_PER_THREAD; u++) {
+                        VirtualUser user = onboard(record);
+                        if (user != null) {
+                            users.add(user);
+                        }
+                    }
+                    while (System.nanoTime() < deadline) {
+                        // 가입이 모두 실패했으면 가입 요청만 반복해 실패를 계속 기록합니다.
+                        if (users.isEmpty()) {
+                            signup(record);
+                            continue;
+                        }
+                        VirtualUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+                        step(user, record);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 트래픽 비율: 내부 조회 35%, 기본 결제수단 35%, 로그인 10%, 재발급 10%, 카드 등록 5%, 가입 5%
+    private void step(VirtualUser user, boolean record) throws Exception {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll < 35) {
+            call("internal-user", get("/internal/api/users/" + user.userId), record);
+        } else if (roll < 70) {
+            call("default-payment", get("/internal/api/users/" + user.userId + "/payment-methods/default"), record);
+        } else if (roll < 80) {
+            login(user, record);
+        } else if (roll < 90) {
+            reissue(user, record);
+        } else if (roll < 95) {
+            registerCard(user, record);
+        } else {
+            signup(record);
+        }
+    }
+
+    private VirtualUser onboard(boolean record) throws Exception {
+        VirtualUser user = signup(record);
+        if (user == null) {
+            return null;
+        }
+        registerCard(user, record);
+        login(user, record);
+        return user;
+    }
+
+    private VirtualUser signup(boolean record) throws Exception {
+        int n = sequence.incrementAndGet();
+        String email = "lt" + n + "@example.com";
+        String body = objectMapper.writeValueAsString(Map.of(
+                "email", email,
+                "password", PASSWORD,
+                "username", "lt-" + n,
+                "phoneNumber", String.format("010%08d", n)
+        ));
+        HttpResponse<String> response = call("signup", post("/api/users", body), record);
+        // 실패 응답은 call() 에서 오류로 기록되었으므로 본문을 읽지 않고 넘어갑니다.
+        if (response.statusCode() / 100 != 2) {
+            return null;
+        }
+        JsonNode json = objectMapper.readTree(response.body());
+        return new VirtualUser(json.get("id").asLong(), json.get("userId").asText(), email);
+    }
+
+    private void registerCard(VirtualUser user, boolean record) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "cardNumber", "4111111111111111",
+                "expiryDate", "12/30",
+                "cvc", "123"
+        ));
+        call("card-register", post("/api/users/" + user.id + "/payment-methods", body), record);
+    }
+
+    private void login(VirtualUser user, boolean record) throws Exception {
+        String form = "username=" + URLEncoder.encode(user.email, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(uri("/login"))
+                                         .header("Content-Type", "application/x-www-form-urlencoded")
+                                         .POST(HttpRequest.BodyPublishers.ofString(form))
+                                         .build();
+        user.refresh = refreshCookie(call("login", request, record), user.refresh);
+    }
+
+    private void reissue(VirtualUser user, boolean record) throws Exception {
+        if (user.refresh == null) {
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/reissue"))
+                                         .header("Cookie", "refresh=" + user.refresh)
+                                         .POST(HttpRequest.BodyPublishers.noBody())
+                                         .build();
+        user.refresh = refreshCookie(call("reissue", request, record), user.refresh);
+    }
+
+    private HttpResponse<String> call(String endpoint, HttpRequest request, boolean record) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - start;
+
+        if (record) {
+            LatencyRecorder recorder = recorders.get(endpoint);
+            recorder.record(elapsed);
+            if (response.statusCode() >= 400) {
+                recorder.recordError();
+            }
+        }
+        return response;
+    }
+
+    private String refreshCookie(HttpResponse<String> response, String fallback) {
+        return response.headers().allValues("Set-Cookie").stream()
+                       .filter(cookie -> cookie.startsWith("refresh="))
+                       .map(cookie -> cookie.substring("refresh=".length(), cookie.indexOf(';')))
+                       .findFirst()
+                       .orElse(fallback);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                          .header("Content-Type", "application/json")
+                          .POST(HttpRequest.BodyPublishers.ofString(json))
+                          .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static final class VirtualUser {
+        private final long id;
+        private final String userId;
+        private final String email;
+        private String refresh;
+
+        private VirtualUser(long id, String userId, String email) {
+            this.id = id;
+            this.userId = userId;
+            this.email = email;
+        }
+    }
+}
@@ -1,17 +1,49 @@
 package com.example.user_service.repository;
 
+import com.example.user_service.config.JpaAuditConfig;
+import com.example.user_service.dto.request.UserSearchRequest;
 import com.example.user_service.entity.User;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@DataJpaTest
+// 실행 계획 테스트는 search() 가 실제로 만든 SQL 을 SqlRecorder 로 잡아 EXPLAIN 합니다. 가입일 검색을 위해 createdAt 감사 기능을 켭니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.user_service.repository.UserRepositoryTest$SqlRecorder")
+@Import(JpaAuditConfig.class)
 class UserRepositoryTest {
 
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
     @Autowired
     private UserRepository userRepository;
 
@@ -59,4 +91,173 @@ class UserRepositoryTest {
         // Then
         assertThat(exists).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("userId(natural id)로 사용자를 조회할 수 있다")
+    void findByUserId_whenUserExists_returnsUser() {
+        // Given
+        User user = User.builder()
+                        .email("natural@example.com")
+                        .password("password")
+                        .username("Natural User")
+                        .role("USER")
+                        .phoneNumber("01055555555")
+                        .build();
+
+        entityManager.persistAndFlush(user);
+        entityManager.clear();
+
+        // When
+        Optional<User> found = userRepository.findByUserId(user.getUserId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getEmail()).isEqualTo("natural@example.com");
+    }
+
+    @Test
+    @DisplayName("keyset 검색은 cursor 이후의 사용자만 id 내림차순으로 조회한다")
+    void search_withCursor_returnsNextPage() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(User.builder()
+                                      .email("driver" + i + "@example.com")
+                                      .password("password")
+                                      .username("Driver " + i)
+                                      .role("ROLE_DRIVER")
+                                      .phoneNumber("0101111000" + i)
+                                      .build());
+        }
+        entityManager.persist(User.builder()
+                                  .email("rider@example.com")
+                                  .password("password")
+                                  .username("Rider")
+                                  .role("ROLE_USER")
+                                  .phoneNumber("01022220000")
+                                  .build());
+        entityManager.flush();
+
+        UserSearchRequest firstPage = new UserSearchRequest("driver", null, "ROLE_DRIVER", null, null, null, null, 2);
+
+        // When
+        List<User> first = userRepository.search(firstPage, 2);
+        UserSearchRequest secondPage = new UserSearchRequest("driver", null, "ROLE_DRIVER", null, null, first.get(1).getId(), null, 2);
+        List<User> second = userRepository.search(secondPage, 2);
+
+        // Then
+        assertThat(first).hasSize(2);
+        assertThat(first.get(0).getId()).isGreaterThan(first.get(1).getId());
+        assertThat(second).hasSize(2)
+                          .allSatisfy(user -> assertThat(user.getId()).isLessThan(first.get(1).getId()));
+    }
+
+    @Test
+    @DisplayName("가입일 범위 검색에 cursorCreatedAt 없이 cursor 만 주면 id 커서로 대신 읽지 않고 예외가 발생한다")
+    void searchByCreatedAt_withIdCursorOnly_isRejected() {
+        // Given
+        UserSearchRequest condition = new UserSearchRequest(null, null, null, LocalDateTime.now().minusDays(1), null, 10L, null, 2);
+
+        // When & Then
+        assertThatThrownBy(() -> userRepository.search(condition, 2))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("가입일 범위 검색은 (createdAt, id) 커서로 가입일이 같은 사용자도 빠짐없이 내림차순으로 이어서 조회한다")
+    void searchByCreatedAt_pagesWithCompositeCursor() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(User.builder()
+                                      .email("joined" + i + "@example.com")
+                                      .password("password")
+                                      .username("Joined " + i)
+                                      .role("ROLE_DRIVER")
+                                      .phoneNumber("0103333000" + i)
+                                      .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+
+        // When - 2 건씩 끝까지
+        List<User> seen = new ArrayList<>();
+        Long cursor = null;
+        LocalDateTime cursorCreatedAt = null;
+        for (int page = 0; page < 3; page++) {
+            List<User> users = userRepository.search(
+                    new UserSearchRequest(null, null, null, from, null, cursor, cursorCreatedAt, 2), 2);
+            seen.addAll(users);
+            if (users.isEmpty()) {
+                break;
+            }
+            cursor = users.get(users.size() - 1).getId();
+            cursorCreatedAt = users.get(users.size() - 1).getCreatedAt();
+        }
+
+        // Then
+        assertThat(seen).extracting(User::getEmail).doesNotHaveDuplicates().hasSize(5);
+        for (int i = 1; i < seen.size(); i++) {
+            User previous = seen.get(i - 1);
+            User current = seen.get(i);
+            assertThat(current.getCreatedAt()).isBeforeOrEqualTo(previous.getCreatedAt());
+            if (current.getCreatedAt().equals(previous.getCreatedAt())) {
+                assertThat(current.getId()).isLessThan(previous.getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("역할 필터 keyset 조회는 (role, id) 인덱스를 사용한다")
+    void searchByRole_usesRoleIndex() {
+        // When
+        String plan = explainSearch(new UserSearchRequest(null, null, "ROLE_DRIVER", null, null, 1000L, null, 20));
+
+        // Then
+        assertThat(plan).containsIgnoringCase("idx_users_role_id");
+    }
+
+    @Test
+    @DisplayName("가입일 범위 keyset 조회는 (created_at, id) 인덱스를 사용한다")
+    void searchByCreatedAt_usesCreatedAtIndex() {
+        // When
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        String plan = explainSearch(new UserSearchRequest(null, null, null, from, from.plusMonths(1),
+                1000L, from.plusDays(15), 20));
+
+        // Then
+        assertThat(plan).containsIgnoringCase("idx_users_created_at_id");
+    }
+
+    // search() 가 실행한 SQL 을 그대로 EXPLAIN 합니다. 바인딩 값은 실행 계획 선택에 쓰이는 타입만 맞춥니다.
+    private String explainSearch(UserSearchRequest condition) {
+        SqlRecorder.STATEMENTS.clear();
+        userRepository.search(condition, condition.pageSize() + 1);
+        String sql = SqlRecorder.STATEMENTS.stream()
+                                           .filter(statement -> statement.contains("from users"))
+                                           .reduce((first, second) -> second)
+                                           .orElseThrow();
+
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    statement.setObject(i, sampleValue(parameters.getParameterType(i)));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private static Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> Timestamp.valueOf("2025-01-15 00:00:00");
+            case Types.VARCHAR, Types.CHAR -> "ROLE_DRIVER";
+            // id 커서, LIMIT
+            default -> 21;
+        };
+    }
+}
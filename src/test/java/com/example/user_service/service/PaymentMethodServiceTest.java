@@ -13,11 +13,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import com.example.user_service.config.logging.HotPathLogger;
+import com.example.user_service.config.logging.HotPathLoggerFactory;
+import com.example.user_service.config.logging.HotPathLoggingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.List;
 import java.util.Arrays;
@@ -38,7 +42,8 @@ class PaymentMethodServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private PaymentMethodService paymentMethodService;
 
     private User testUser;
@@ -47,6 +52,12 @@ class PaymentMethodServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 성공 조회 로그는 100 건 중 1 건만 출력 (application.yml 과 같은 정책)
+        HotPathLoggingProperties properties = new HotPathLoggingProperties(new HotPathLogger.Policy(1, 100),
+                Map.of("payment-default-lookup", new HotPathLogger.Policy(100, 10)));
+        paymentMethodService = new PaymentMethodService(paymentMethodRepository, userRepository,
+                new HotPathLoggerFactory(properties, meterRegistry));
+
         testUser = User.builder()
                        .email("test@example.com")
                        .password("password123")
@@ -337,4 +348,23 @@ class PaymentMethodServiceTest {
         verify(paymentMethodRepository, times(1)).findByUserUserIdAndIsDefaultTrue(userUuid);
         verify(userRepository, never()).findById(anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("기본 결제 수단 조회 실패 로그는 성공 로그의 샘플링과 별도 키로 모두 기록된다")
+    void getDefaultPaymentMethod_notFoundIsNotSampled() {
+        // Given - 성공 로그는 100 건 중 1 건만 출력 (setUp 의 정책)
+        when(paymentMethodRepository.findByUserUserIdAndIsDefaultTrue(testUserUuid)).thenReturn(Optional.empty());
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> paymentMethodService.getDefaultPaymentMethod(testUserUuid))
+                    .isInstanceOf(PaymentMethodNotFoundException.class);
+        }
+
+        // Then
+        assertThat(meterRegistry.get("logging.hotpath.events")
+                                .tag("key", "payment-default-missing")
+                                .tag("decision", "logged")
+                                .counter().count()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.user_service.service;
+
+import com.example.user_service.config.token.InMemoryRefreshTokenStore;
+import com.example.user_service.config.token.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenServiceTest {
+
+    private static final long EXPIRED_MS = 60_000L;
+
+    private RefreshTokenStore store;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore(4, 0, null, Clock.systemUTC());
+        refreshTokenService = new RefreshTokenService(store);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 교체하면 한 요청만 성공하고 그 요청의 새 토큰만 저장된다")
+    void onlyOneConcurrentRotationSucceeds() {
+        // Given
+        store.save("user-1", "old-refresh", Instant.now().plusMillis(EXPIRED_MS));
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<CompletableFuture<Boolean>> rotations = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return refreshTokenService.rotate("old-refresh", "user-1", "new-refresh-" + i, EXPIRED_MS);
+                }))
+                .toList();
+        start.countDown();
+        List<Boolean> results = rotations.stream().map(CompletableFuture::join).toList();
+
+        // Then
+        assertThat(results).containsOnlyOnce(true);
+        int winner = results.indexOf(true);
+        assertThat(store.exists("old-refresh")).isFalse();
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(store.exists("new-refresh-" + i)).isEqualTo(i == winner);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.user_service.service;
+
+import com.example.user_service.config.logging.HotPathLoggingConfig;
+import com.example.user_service.config.securiy.revocation.TokenRevocationList;
+import com.example.user_service.dto.request.UserCreateRequest;
+import com.example.user_service.entity.PaymentMethod;
+import com.example.user_service.entity.User;
+import com.example.user_service.support.PerformanceBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static com.example.user_service.support.PerformanceBudget.MB;
+
+/**
+ * 서비스 호출 1회당 SQL 실행 횟수 / 스레드 할당량 예산.
+ * N+1 이나 불필요한 SELECT 가 추가되면 이 테스트가 실패합니다.
+ * 할당량은 H2 + Hibernate 기준 넉넉하게 잡은 상한으로, 급격한 회귀만 잡습니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.user_service.support.QueryCountInspector")
+@Import({UserService.class, PaymentMethodService.class, BCryptPasswordEncoder.class, HotPathLoggingConfig.class,
+        SimpleMeterRegistry.class})
+class ServiceQueryBudgetTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PaymentMethodService paymentMethodService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private TokenRevocationList tokenRevocationList;
+
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(User.builder()
+                                          .email("budget@example.com")
+                                          .password("password")
+                                          .username("budget")
+                                          .role("ROLE_USER")
+                                          .phoneNumber("01000000001")
+                                          .build());
+        entityManager.persist(card(owner, "budget-key-1", true));
+        entityManager.persist(card(owner, "budget-key-2", false));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("기본 결제 수단 조회는 사용자까지 1 회의 쿼리로 가져온다")
+    void defaultPaymentLookup() {
+        // Given
+        paymentMethodService.getDefaultPaymentMethod(owner.getUserId());
+        entityManager.clear();
+
+        // When & Then
+        PerformanceBudget.measure(() -> paymentMethodService.getDefaultPaymentMethod(owner.getUserId()))
+                         .assertQueriesAtMost(1)
+                         .assertAllocatedAtMost(2 * MB);
+    }
+
+    @Test
+    @DisplayName("결제 수단 목록 조회는 사용자 존재 확인 + 목록 조회 2 회로 끝난다")
+    void paymentMethodListLookup() {
+        // Given
+        paymentMethodService.getPaymentMethods(owner.getId());
+        entityManager.clear();
+
+        // When & Then
+        PerformanceBudget.measure(() -> paymentMethodService.getPaymentMethods(owner.getId()))
+                         .assertQueriesAtMost(2)
+                         .assertAllocatedAtMost(2 * MB);
+    }
+
+    @Test
+    @DisplayName("기본 결제 수단 변경은 목록 조회 1 회 + 변경된 행 UPDATE 만 실행한다")
+    void setDefaultPaymentMethod() {
+        // Given
+        Long newDefaultId = paymentMethodService.getPaymentMethods(owner.getId()).stream()
+                                                .filter(pm -> !pm.isDefault())
+                                                .findFirst()
+                                                .orElseThrow()
+                                                .id();
+        entityManager.clear();
+
+        // When & Then
+        PerformanceBudget.measure(() -> {
+                             paymentMethodService.setDefaultPaymentMethod(owner.getId(), newDefaultId);
+                             entityManager.flush();
+                         })
+                         .assertQueriesAtMost(3);
+    }
+
+    @Test
+    @DisplayName("회원가입은 이메일/전화번호 중복 확인 2 회 + INSERT 1 회로 끝난다")
+    void register() {
+        // Given - 시퀀스 블록 할당과 BCrypt 초기화는 첫 호출에서만 발생
+        userService.createUser(new UserCreateRequest("warmup@example.com", "password123", "warmup", "01000000002"));
+        entityManager.flush();
+
+        // When & Then
+        PerformanceBudget.measure(() -> {
+                             userService.createUser(new UserCreateRequest("new@example.com", "password123", "new", "01000000003"));
+                             entityManager.flush();
+                         })
+                         .assertQueriesAtMost(3)
+                         .assertAllocatedAtMost(8 * MB);
+    }
+
+    private PaymentMethod card(User user, String billingKey, boolean isDefault) {
+        return PaymentMethod.builder()
+                            .user(user)
+                            .billingKey(billingKey)
+                            .cardIssuer("Visa")
+                            .expiryDate("12/30")
+                            .cardNumberMasked("4111-XXXX-XXXX-1111")
+                            .isDefault(isDefault)
+                            .build();
+    }
+}
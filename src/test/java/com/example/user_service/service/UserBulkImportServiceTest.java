@@ -0,0 +1,252 @@
+package com.example.user_service.service;
+
+import com.example.user_service.config.bulkimport.UserBulkImportProperties;
+import com.example.user_service.config.traffic.TrafficClass;
+import com.example.user_service.config.traffic.TrafficClassRoutingDataSource;
+import com.example.user_service.dto.response.UserBulkImportResult;
+import com.example.user_service.dto.response.UserBulkImportResult.Status;
+import com.example.user_service.entity.User;
+import com.example.user_service.exception.BulkImportBusyException;
+import com.example.user_service.exception.InvalidImportFileException;
+import com.example.user_service.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// 청크마다 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserBulkImportServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private UserBulkImportService service;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 경계를 넘는 경우를 보기 위해 2 행씩 처리
+        service = service(userRepository);
+    }
+
+    private UserBulkImportService service(UserRepository repository) {
+        return new UserBulkImportService(repository, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper, entityManager,
+                transactionManager, new UserBulkImportProperties(2, 2, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("CSV 를 일괄 등록하면 행마다 결과를 돌려주고, 형식 오류와 중복 행만 제외하고 저장한다")
+    void importsCsvWithPerRowResults() throws IOException {
+        // Given - 이미 가입된 이메일 1건
+        userRepository.save(User.builder()
+                                .email("existing@example.com")
+                                .password("password")
+                                .username("existing")
+                                .role("ROLE_USER")
+                                .phoneNumber("01000000000")
+                                .build());
+        String csv = """
+                phoneNumber,email,username,password
+                01011111111,driver1@example.com,driver1,password1
+                01022222222,not-an-email,driver2,password2
+                01033333333,existing@example.com,driver3,password3
+
+                01044444444,driver1@example.com,driver4,password4
+                01055555555,"driver5@example.com","driver, five",password5
+                """;
+
+        // When
+        List<UserBulkImportResult> results = importUsers(csv, UserBulkImportReader.TEXT_CSV);
+
+        // Then
+        assertThat(results).extracting(UserBulkImportResult::line).containsExactly(2L, 3L, 4L, 6L, 7L);
+        assertThat(results).extracting(UserBulkImportResult::status)
+                           .containsExactly(Status.CREATED, Status.INVALID, Status.DUPLICATE, Status.DUPLICATE, Status.CREATED);
+
+        User created = userRepository.findByEmail("driver5@example.com").orElseThrow();
+        assertThat(created.getUsername()).isEqualTo("driver, five");
+        assertThat(created.getRole()).isEqualTo("ROLE_DRIVER");
+        assertThat(passwordEncoder.matches("password5", created.getPassword())).isTrue();
+        assertThat(results.get(4).userId()).isEqualTo(created.getUserId());
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("NDJSON 의 읽을 수 없는 줄과 객체가 아닌 줄은 INVALID 로 표시하고 나머지는 등록한다")
+    void importsNdjsonAndReportsMalformedLines() throws IOException {
+        // Given
+        String ndjson = """
+                {"email":"nd1@example.com","password":"password1","username":"nd1","phoneNumber":"01066666666"}
+                {"email":"nd2@example.com",
+                null
+                {"email":"nd3@example.com","password":"password3","username":"nd3","phoneNumber":"01077777777"}
+                """;
+
+        // When
+        List<UserBulkImportResult> results = importUsers(ndjson, MediaType.APPLICATION_NDJSON);
+
+        // Then
+        assertThat(results).extracting(UserBulkImportResult::status)
+                           .containsExactly(Status.CREATED, Status.INVALID, Status.INVALID, Status.CREATED);
+        assertThat(userRepository.existsByEmail("nd3@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 필수 컬럼이 없으면 응답을 시작하기 전에 InvalidImportFileException 이 발생한다")
+    void rejectsCsvWithoutRequiredHeader() {
+        // Given
+        String csv = "email,password\nx@example.com,password1\n";
+
+        // When & Then
+        assertThatThrownBy(() -> service.open(stream(csv), UserBulkImportReader.TEXT_CSV))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+
+    @Test
+    @DisplayName("중복 확인 뒤 다른 요청이 같은 이메일을 먼저 저장하면 그 청크는 행마다 다시 저장되어 충돌한 행만 DUPLICATE 가 된다")
+    void fallsBackToPerRowSaveOnUniqueViolation() throws IOException {
+        // Given - 중복 조회 직후 같은 이메일을 다른 트랜잭션에서 커밋
+        UserRepository racingRepository = mock(UserRepository.class, delegatesTo(userRepository));
+        doAnswer(invocation -> {
+            List<String> existing = userRepository.findExistingEmails(invocation.getArgument(0));
+            userRepository.save(User.builder()
+                                    .email("race@example.com")
+                                    .password("password")
+                                    .username("racer")
+                                    .role("ROLE_USER")
+                                    .phoneNumber("01099999999")
+                                    .build());
+            return existing;
+        }).when(racingRepository).findExistingEmails(anyCollection());
+        service.shutdown();
+        service = service(racingRepository);
+        String csv = """
+                phoneNumber,email,username,password
+                01012121212,race@example.com,driver1,password1
+                01013131313,calm@example.com,driver2,password2
+                """;
+
+        // When
+        List<UserBulkImportResult> results = importUsers(csv, UserBulkImportReader.TEXT_CSV);
+
+        // Then
+        assertThat(results).extracting(UserBulkImportResult::status).containsExactly(Status.DUPLICATE, Status.CREATED);
+        assertThat(userRepository.findByEmail("race@example.com").orElseThrow().getUsername()).isEqualTo("racer");
+        assertThat(userRepository.existsByEmail("calm@example.com")).isTrue();
+        assertThat(results.get(1).id()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("일괄 등록이 진행 중이면 다음 요청은 BulkImportBusyException 으로 거절되고, 끝나면 다시 받을 수 있다")
+    void rejectsConcurrentImports() throws IOException {
+        // Given
+        UserBulkImportReader first = service.open(stream("email,password,username,phoneNumber\n"), UserBulkImportReader.TEXT_CSV);
+
+        // When & Then
+        assertThatThrownBy(() -> service.open(stream("email,password,username,phoneNumber\n"), UserBulkImportReader.TEXT_CSV))
+                .isInstanceOf(BulkImportBusyException.class);
+        service.importUsers(first, new ByteArrayOutputStream());
+        service.importUsers(service.open(stream("email,password,username,phoneNumber\n"), UserBulkImportReader.TEXT_CSV),
+                new ByteArrayOutputStream());
+    }
+
+    @Test
+    @DisplayName("요청 스레드의 분류가 없는 비동기 스레드에서 실행해도 등록의 DB 작업은 내부 전용 커넥션 풀을 쓴다")
+    void importUsesInternalPool() throws Exception {
+        // Given - 중복 조회 시점에 공용/내부 풀 중 어느 쪽에서 커넥션을 받는지 기록
+        DataSource sharedPool = mock(DataSource.class);
+        DataSource internalPool = mock(DataSource.class);
+        TrafficClassRoutingDataSource routing = new TrafficClassRoutingDataSource();
+        routing.setTargetDataSources(Map.of(TrafficClass.INTERNAL, internalPool));
+        routing.setDefaultTargetDataSource(sharedPool);
+        routing.afterPropertiesSet();
+        UserRepository routedRepository = mock(UserRepository.class, delegatesTo(userRepository));
+        doAnswer(invocation -> {
+            routing.getConnection();
+            return userRepository.findExistingEmails(invocation.getArgument(0));
+        }).when(routedRepository).findExistingEmails(anyCollection());
+        service.shutdown();
+        service = service(routedRepository);
+        String csv = """
+                phoneNumber,email,username,password
+                01014141414,pool@example.com,driver1,password1
+                """;
+
+        // When - MVC 비동기 실행기처럼 분류가 기록되지 않은 별도 스레드에서 실행
+        CompletableFuture.runAsync(() -> {
+            try {
+                importUsers(csv, UserBulkImportReader.TEXT_CSV);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        // Then
+        verify(internalPool).getConnection();
+        verifyNoInteractions(sharedPool);
+        assertThat(userRepository.existsByEmail("pool@example.com")).isTrue();
+    }
+
+    private List<UserBulkImportResult> importUsers(String body, MediaType contentType) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.importUsers(service.open(stream(body), contentType), output);
+
+        List<UserBulkImportResult> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, UserBulkImportResult.class));
+        }
+        return results;
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
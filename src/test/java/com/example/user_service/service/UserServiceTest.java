@@ -1,29 +1,35 @@
 package com.example.user_service.service;
 
+import com.example.user_service.config.logging.HotPathLoggerFactory;
+import com.example.user_service.config.logging.HotPathLoggingProperties;
+import com.example.user_service.config.securiy.revocation.TokenRevocationList;
 import com.example.user_service.dto.request.UserCreateRequest;
 import com.example.user_service.dto.request.UserPasswordChangeRequest;
+import com.example.user_service.dto.request.UserSearchRequest;
 import com.example.user_service.dto.request.UserUpdateRequest;
 import com.example.user_service.dto.response.InternalUserResponse;
 import com.example.user_service.dto.response.UserCreateResponse;
 import com.example.user_service.dto.response.UserUpdateResponse;
 import com.example.user_service.dto.response.UserProfileResponse;
+import com.example.user_service.dto.response.UserSearchResponse;
 import com.example.user_service.entity.User;
 import com.example.user_service.exception.DuplicateEmailException;
 import com.example.user_service.exception.DuplicatePhoneNumberException;
 import com.example.user_service.exception.UserNotFoundException;
 import com.example.user_service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,7 +46,12 @@ class UserServiceTest {
     @Mock
     private BCryptPasswordEncoder bCryptPasswordEncoder;
 
-    @InjectMocks
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     private UserService userService;
 
     private UserCreateRequest userCreateRequest;
@@ -50,6 +61,9 @@ class UserServiceTest {
 
     @BeforeEach
     void setUp() {
+        userService = new UserService(userRepository, bCryptPasswordEncoder, tokenRevocationList, refreshTokenService,
+                new HotPathLoggerFactory(new HotPathLoggingProperties(null, null), new SimpleMeterRegistry()));
+
         userCreateRequest = new UserCreateRequest(
                 "test@example.com",
                 "password123",
@@ -163,6 +177,8 @@ class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).delete(user);
+        verify(refreshTokenService).deleteAll(testUserId);
+        verify(tokenRevocationList).revokeUser(testUserId);
     }
 
     @Test
@@ -269,6 +285,8 @@ class UserServiceTest {
 
         // Then
         assertThat(user.getPassword()).isEqualTo("new_encoded_password");
+        verify(tokenRevocationList).revokeUser(testUserId);
+        verify(refreshTokenService).deleteAll(testUserId);
     }
 
     @Test
@@ -302,6 +320,35 @@ class UserServiceTest {
         assertThatThrownBy(() -> userService.changePassword(userId, request, authenticatedUserId))
                 .isInstanceOf(IllegalArgumentException.class) // 서비스 코드에서 던지는 예외 타입 확인
                 .hasMessageContaining("비밀번호가 일치하지 않습니다");
+        verify(tokenRevocationList, never()).revokeUser(anyString());
+        verify(refreshTokenService, never()).deleteAll(anyString());
+    }
+
+    @Test
+    @DisplayName("본인이 전체 세션 폐기를 요청하면 Refresh 토큰을 모두 지우고 Access 토큰을 폐기한다")
+    void revokeSessions_withValidOwner_shouldDeleteAllTokens() {
+        // Given
+        when(userRepository.findById(testId)).thenReturn(Optional.of(user));
+        when(refreshTokenService.deleteAll(testUserId)).thenReturn(3);
+
+        // When
+        userService.revokeSessions(testId, testUserId);
+
+        // Then
+        verify(refreshTokenService).deleteAll(testUserId);
+        verify(tokenRevocationList).revokeUser(testUserId);
+    }
+
+    @Test
+    @DisplayName("타인이 전체 세션 폐기를 요청하면 AccessDeniedException이 발생하고 토큰은 그대로 둔다")
+    void revokeSessions_withInvalidOwner_shouldThrowAccessDeniedException() {
+        // Given
+        when(userRepository.findById(testId)).thenReturn(Optional.of(user));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.revokeSessions(testId, "hacker-uuid"))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(refreshTokenService, never()).deleteAll(anyString());
     }
 
     @Test
@@ -318,4 +365,29 @@ class UserServiceTest {
         assertThat(response.userId()).isEqualTo(testUserId);
         verify(userRepository, times(1)).findByUserId(testUserId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("검색 결과가 size 보다 많으면 다음 페이지 커서를 반환한다")
+    void searchUsers_whenMoreThanSize_returnsNextCursor() {
+        // Given
+        UserSearchRequest request = new UserSearchRequest(null, null, "ROLE_USER", null, null, null, null, 1);
+        User older = User.builder()
+                         .email("older@example.com")
+                         .password("encoded_password")
+                         .username("Older")
+                         .role("ROLE_USER")
+                         .phoneNumber("01000000000")
+                         .build();
+        ReflectionTestUtils.setField(older, "id", 0L);
+
+        when(userRepository.search(request, 2)).thenReturn(List.of(user, older));
+
+        // When
+        UserSearchResponse response = userService.searchUsers(request);
+
+        // Then
+        assertThat(response.users()).hasSize(1);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isEqualTo(testId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.user_service.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 번의 호출이 실행한 SQL 수와 현재 스레드가 할당한 바이트를 측정해 예산과 비교합니다.
+ *
+ * <pre>
+ * PerformanceBudget.measure(() -> service.getDefaultPaymentMethod(userId))
+ *                  .assertQueriesAtMost(1)
+ *                  .assertAllocatedAtMost(2 * MB);
+ * </pre>
+ * SQL 은 QueryCountInspector 가 등록된 컨텍스트에서만 집계됩니다.
+ */
+public final class PerformanceBudget {
+
+    public static final long KB = 1024;
+    public static final long MB = 1024 * KB;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final List<String> statements;
+    private final long allocatedBytes;
+
+    private PerformanceBudget(List<String> statements, long allocatedBytes) {
+        this.statements = statements;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public static PerformanceBudget measure(Runnable action) {
+        QueryCountInspector.start();
+        List<String> statements;
+        long allocated;
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        try {
+            action.run();
+        } finally {
+            allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+            statements = QueryCountInspector.stop();
+        }
+        return new PerformanceBudget(statements, allocated);
+    }
+
+    public PerformanceBudget assertQueriesAtMost(int budget) {
+        assertThat(statements)
+                .as("SQL 실행 횟수 예산(%d) 초과: %s", budget, statements)
+                .hasSizeLessThanOrEqualTo(budget);
+        return this;
+    }
+
+    public PerformanceBudget assertAllocatedAtMost(long budgetBytes) {
+        assertThat(allocatedBytes)
+                .as("스레드 할당 예산(%d bytes) 초과", budgetBytes)
+                .isLessThanOrEqualTo(budgetBytes);
+        return this;
+    }
+
+    public List<String> statements() {
+        return statements;
+    }
+
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.user_service.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 Hibernate 가 준비한 SQL 을 기록하는 StatementInspector.
+ * 테스트에서 spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록합니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? List.of() : statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}